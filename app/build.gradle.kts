@@ -29,6 +29,12 @@ android {
         sourceCompatibility = JavaVersion.VERSION_11
         targetCompatibility = JavaVersion.VERSION_11
     }
+    testOptions {
+        unitTests.all {
+            // Mesures de performance à la demande : ./gradlew test -Dbenchmark=true
+            it.systemProperty("benchmark", System.getProperty("benchmark", "false"))
+        }
+    }
 }
 
 dependencies {
@@ -6,17 +6,24 @@ import android.graphics.BitmapFactory;
 import android.graphics.Canvas;
 import android.graphics.Paint;
 
-import java.util.ArrayList;
-import java.util.Iterator;
-import java.util.List;
+import com.example.gameapp.utils.BonusStore;
+import com.example.gameapp.utils.FreeCellIndex;
+import com.example.gameapp.utils.MazeView;
+
 import java.util.Random;
 
 /**
  * Gestionnaire de bonus qui gère la génération et la collecte des bonus
  */
 public class BonusManager {
-    // Liste des bonus actifs
-    private List<Bonus> bonusList = new ArrayList<>();
+    // Bonus actifs (tableaux de primitives, emplacements réutilisés, index par case)
+    private final BonusStore bonuses = new BonusStore(MAX_ACTIVE_BONUSES);
+    
+    // Rayon d'un bonus dessiné sans image
+    private static final float DEFAULT_BONUS_RADIUS = 10;
+    
+    // Pinceau commun à tous les bonus dessinés sans image
+    private final Paint bonusPaint = new Paint();
     
     // Générateur de nombres aléatoires
     private Random random = new Random();
@@ -42,11 +49,14 @@ public class BonusManager {
     private float ballY;
     
     // Grille du labyrinthe
-    private int[][] mazeGrid;
+    private MazeView mazeGrid;
     private float cellSize;
     private float mazeOffsetX = 0;
     private float mazeOffsetY = 0;
     
+    // Index des passages : les bonus apparaissent entre 3 et 10 pas de la balle
+    private final FreeCellIndex freeCells = new FreeCellIndex(3, 10);
+    
     // Image du cachet pour les bonus
     private Bitmap cachetImage;
     private Context context;
@@ -59,6 +69,10 @@ public class BonusManager {
     public BonusManager(int screenWidth, int screenHeight) {
         this.screenWidth = screenWidth;
         this.screenHeight = screenHeight;
+        
+        bonusPaint.setARGB(255, 255, 255, 0); // Jaune opaque
+        bonusPaint.setAntiAlias(true);
+        bonuses.setRadius(DEFAULT_BONUS_RADIUS);
     }
     
     /**
@@ -75,6 +89,18 @@ public class BonusManager {
                 int bonusSize = (int)(cellSize * 0.8f);
                 cachetImage = Bitmap.createScaledBitmap(cachetImage, bonusSize, bonusSize, true);
             }
+            updateBonusRadius();
+        }
+    }
+    
+    /**
+     * Rayon de collision des bonus : celui de l'image du cachet si elle est chargée
+     */
+    private void updateBonusRadius() {
+        if (cachetImage != null) {
+            bonuses.setRadius(Math.max(cachetImage.getWidth(), cachetImage.getHeight()) / 2f);
+        } else {
+            bonuses.setRadius(DEFAULT_BONUS_RADIUS);
         }
     }
     
@@ -93,15 +119,22 @@ public class BonusManager {
      * @param mazeGrid Grille du labyrinthe
      * @param cellSize Taille d'une cellule en pixels
      */
-    public void updateMazeGrid(int[][] mazeGrid, float cellSize) {
+    public void updateMazeGrid(MazeView mazeGrid, float cellSize) {
         this.mazeGrid = mazeGrid;
         this.cellSize = cellSize;
         
+        // Nouvelle configuration : reconstruire l'index des passages
+        freeCells.rebuild(mazeGrid);
+        
         // Redimensionner l'image du cachet si nécessaire
         if (cachetImage != null && context != null) {
             int bonusSize = (int)(cellSize * 0.8f);
             cachetImage = Bitmap.createScaledBitmap(cachetImage, bonusSize, bonusSize, true);
+            updateBonusRadius();
         }
+        
+        // Index spatial des bonus aligné sur les cases du labyrinthe
+        bonuses.setGrid(mazeGrid.getWidth(), mazeGrid.getHeight(), cellSize, mazeOffsetX, mazeOffsetY);
     }
     
     /**
@@ -112,6 +145,9 @@ public class BonusManager {
     public void setMazeOffset(float offsetX, float offsetY) {
         this.mazeOffsetX = offsetX;
         this.mazeOffsetY = offsetY;
+        if (mazeGrid != null) {
+            bonuses.setGrid(mazeGrid.getWidth(), mazeGrid.getHeight(), cellSize, offsetX, offsetY);
+        }
     }
     
     /**
@@ -135,18 +171,11 @@ public class BonusManager {
         // Incrémenter le compteur de frames
         framesSinceLastSpawn++;
         
-        // Vérifier les collisions et supprimer les bonus collectés
-        Iterator<Bonus> iterator = bonusList.iterator();
-        while (iterator.hasNext()) {
-            Bonus bonus = iterator.next();
-            if (bonus.checkCollision(ballX, ballY, ballRadius)) {
-                collectedValue += bonus.collect();
-                iterator.remove();
-            }
-        }
+        // Collecter les bonus touchés (seules les cases voisines de la balle sont examinées)
+        collectedValue += bonuses.collect(ballX, ballY, ballRadius);
         
         // Éventuellement générer un nouveau bonus si on n'a pas atteint la limite
-        if (bonusList.size() < MAX_ACTIVE_BONUSES && 
+        if (bonuses.getActiveCount() < MAX_ACTIVE_BONUSES && 
             framesSinceLastSpawn > MIN_SPAWN_DELAY && 
             random.nextFloat() < BONUS_SPAWN_PROBABILITY) {
             spawnBonus();
@@ -161,54 +190,27 @@ public class BonusManager {
      */
     private void spawnBonus() {
         // Ne pas générer si on a déjà atteint le maximum
-        if (bonusList.size() >= MAX_ACTIVE_BONUSES || mazeGrid == null || cellSize <= 0) return;
+        if (bonuses.getActiveCount() >= MAX_ACTIVE_BONUSES || mazeGrid == null || cellSize <= 0) return;
         
         // Valeur aléatoire du bonus entre 0.1 et 0.6
         float value = 0.1f + random.nextFloat() * 0.5f;
         
-        // Position du bonus
-        float bonusX, bonusY;
-        int gridX, gridY;
+        // Cellule de la balle ; les distances ne sont recalculées que si elle a changé
+        int ballGridX = (int) Math.floor((ballX - mazeOffsetX) / cellSize);
+        int ballGridY = (int) Math.floor((ballY - mazeOffsetY) / cellSize);
+        freeCells.setOrigin(ballGridX, ballGridY);
         
-        // Nombre maximal de tentatives pour trouver une position valide
-        int maxAttempts = 50;
-        int attempts = 0;
+        // Tirage uniforme parmi les passages situés entre 3 et 10 pas de la balle
+        int cell = freeCells.pickRingCell(random);
+        if (cell < 0) return;
+        int gridX = cell % mazeGrid.getWidth();
+        int gridY = cell / mazeGrid.getWidth();
         
-        do {
-            // Générer des coordonnées aléatoires dans le labyrinthe
-            gridX = random.nextInt(mazeGrid[0].length);
-            gridY = random.nextInt(mazeGrid.length);
-            
-            // Convertir en coordonnées de pixel
-            bonusX = mazeOffsetX + (gridX + 0.5f) * cellSize;
-            bonusY = mazeOffsetY + (gridY + 0.5f) * cellSize;
-            
-            // Calculer la distance au carré avec la balle
-            float dx = bonusX - ballX;
-            float dy = bonusY - ballY;
-            float distanceSquared = dx * dx + dy * dy;
-            
-            // Vérifier si la position est valide (passage, pas trop proche, pas trop loin)
-            boolean isFreeCell = (gridY >= 0 && gridY < mazeGrid.length && 
-                                 gridX >= 0 && gridX < mazeGrid[0].length && 
-                                 mazeGrid[gridY][gridX] == 0);
-            
-            float minDistanceSquared = (cellSize * 3) * (cellSize * 3); // Au moins 3 cellules de distance
-            float maxDistanceSquared = (cellSize * 10) * (cellSize * 10); // Au plus 10 cellules de distance
-            
-            if (isFreeCell && distanceSquared > minDistanceSquared && distanceSquared < maxDistanceSquared) {
-                // Position valide, créer le bonus
-                Bonus bonus = new Bonus(bonusX, bonusY, value);
-                // Si l'image du cachet est disponible, définir la taille du bonus en fonction
-                if (cachetImage != null) {
-                    bonus.setImage(cachetImage);
-                }
-                bonusList.add(bonus);
-                return;
-            }
-            
-            attempts++;
-        } while (attempts < maxAttempts);
+        // Convertir en coordonnées de pixel
+        float bonusX = mazeOffsetX + (gridX + 0.5f) * cellSize;
+        float bonusY = mazeOffsetY + (gridY + 0.5f) * cellSize;
+        
+        bonuses.add(bonusX, bonusY, value);
     }
     
     /**
@@ -216,8 +218,16 @@ public class BonusManager {
      * @param canvas Canvas sur lequel dessiner
      */
     public void draw(Canvas canvas) {
-        for (Bonus bonus : bonusList) {
-            bonus.draw(canvas);
+        for (int slot = 0; slot < bonuses.getSlotCount(); slot++) {
+            if (!bonuses.isActive(slot)) continue;
+            float x = bonuses.getX(slot);
+            float y = bonuses.getY(slot);
+            if (cachetImage != null) {
+                canvas.drawBitmap(cachetImage, x - cachetImage.getWidth() / 2, y - cachetImage.getHeight() / 2, null);
+            } else {
+                // Fallback : dessiner un cercle jaune
+                canvas.drawCircle(x, y, bonuses.getRadius(), bonusPaint);
+            }
         }
     }
     
@@ -237,9 +247,10 @@ public class BonusManager {
         }
         
         // Pour chaque bonus, calculer sa nouvelle position
-        for (Bonus bonus : bonusList) {
-            float oldX = bonus.getX();
-            float oldY = bonus.getY();
+        for (int slot = 0; slot < bonuses.getSlotCount(); slot++) {
+            if (!bonuses.isActive(slot)) continue;
+            float oldX = bonuses.getX(slot);
+            float oldY = bonuses.getY(slot);
             
             // Position normalisée (0-1) par rapport à l'ensemble du labyrinthe
             float normalizedX = oldX / mazeWidth;
@@ -261,26 +272,15 @@ public class BonusManager {
             float newY = newNormalizedY * mazeHeight;
             
             // Mettre à jour la position du bonus
-            bonus.setPosition(newX, newY);
+            bonuses.setPosition(slot, newX, newY);
             
             // Vérifier si le bonus est maintenant dans un mur
             int gridX = (int)(newX / cellSize);
             int gridY = (int)(newY / cellSize);
             
-            if (gridX < 0 || gridX >= mazeGrid[0].length || 
-                gridY < 0 || gridY >= mazeGrid.length || 
-                mazeGrid[gridY][gridX] == 1) {
-                // Le bonus se retrouve dans un mur, le désactiver
-                bonus.deactivate();
-            }
-        }
-        
-        // Nettoyer les bonus désactivés
-        Iterator<Bonus> iterator = bonusList.iterator();
-        while (iterator.hasNext()) {
-            Bonus bonus = iterator.next();
-            if (!bonus.isActive()) {
-                iterator.remove();
+            if (!mazeGrid.contains(gridX, gridY) || mazeGrid.isWall(gridX, gridY)) {
+                // Le bonus se retrouve dans un mur, le retirer
+                bonuses.remove(slot);
             }
         }
     }
@@ -293,9 +293,10 @@ public class BonusManager {
      */
     public void rotateAroundCenter(float centerX, float centerY, boolean antiClockwise) {
         // Pour chaque bonus, calculer sa nouvelle position
-        for (Bonus bonus : bonusList) {
-            float oldX = bonus.getX();
-            float oldY = bonus.getY();
+        for (int slot = 0; slot < bonuses.getSlotCount(); slot++) {
+            if (!bonuses.isActive(slot)) continue;
+            float oldX = bonuses.getX(slot);
+            float oldY = bonuses.getY(slot);
             
             // Calculer la différence par rapport au centre
             float dx = oldX - centerX;
@@ -314,26 +315,15 @@ public class BonusManager {
             }
             
             // Mettre à jour la position du bonus
-            bonus.setPosition(newX, newY);
+            bonuses.setPosition(slot, newX, newY);
             
             // Vérifier si le bonus est maintenant dans un mur
             int gridX = (int)((newX - mazeOffsetX) / cellSize);
             int gridY = (int)((newY - mazeOffsetY) / cellSize);
             
-            if (gridX < 0 || gridX >= mazeGrid[0].length || 
-                gridY < 0 || gridY >= mazeGrid.length || 
-                mazeGrid[gridY][gridX] == 1) {
-                // Le bonus se retrouve dans un mur, le désactiver
-                bonus.deactivate();
-            }
-        }
-        
-        // Nettoyer les bonus désactivés
-        Iterator<Bonus> iterator = bonusList.iterator();
-        while (iterator.hasNext()) {
-            Bonus bonus = iterator.next();
-            if (!bonus.isActive()) {
-                iterator.remove();
+            if (!mazeGrid.contains(gridX, gridY) || mazeGrid.isWall(gridX, gridY)) {
+                // Le bonus se retrouve dans un mur, le retirer
+                bonuses.remove(slot);
             }
         }
     }
@@ -367,10 +357,10 @@ public class BonusManager {
      */
     public void regenerateBonuses() {
         // Sauvegarder le nombre actuel de bonus
-        int bonusCount = Math.min(bonusList.size(), MAX_ACTIVE_BONUSES);
+        int bonusCount = Math.min(bonuses.getActiveCount(), MAX_ACTIVE_BONUSES);
         
         // Supprimer tous les bonus existants
-        bonusList.clear();
+        bonuses.clear();
         
         // Générer de nouveaux bonus, mais limité au maximum autorisé
         for (int i = 0; i < bonusCount; i++) {
@@ -379,137 +369,8 @@ public class BonusManager {
         
         // Si aucun bonus n'a été généré (peut arriver si les conditions ne sont pas réunies),
         // essayer d'en générer un quand même
-        if (bonusList.isEmpty() && bonusCount > 0) {
+        if (bonuses.getActiveCount() == 0 && bonusCount > 0) {
             framesSinceLastSpawn = MIN_SPAWN_DELAY + 1;
         }
     }
 }
-
-/**
- * Classe représentant un bonus qui peut être collecté par le joueur
- */
-class Bonus {
-    private float x, y;         // Position du bonus
-    private float size = 20;    // Taille du bonus (diamètre)
-    private float value;        // Valeur du bonus (entre 0.0 et 1.0)
-    private boolean active = true; // Si le bonus est actif
-    private Paint paint;        // Pinceau pour dessiner le bonus
-    private Bitmap image;       // Image pour représenter le bonus (cachet)
-    
-    /**
-     * Constructeur
-     * @param x Position X du bonus
-     * @param y Position Y du bonus
-     * @param value Valeur du bonus (entre 0.0 et 1.0)
-     */
-    public Bonus(float x, float y, float value) {
-        this.x = x;
-        this.y = y;
-        this.value = value;
-        
-        // Initialiser le pinceau
-        paint = new Paint();
-        paint.setARGB(255, 255, 255, 0); // Jaune opaque
-        paint.setAntiAlias(true);
-    }
-    
-    /**
-     * Définit l'image à utiliser pour ce bonus
-     * @param image Bitmap de l'image
-     */
-    public void setImage(Bitmap image) {
-        this.image = image;
-        if (image != null) {
-            // Ajuster la taille en fonction de l'image
-            this.size = Math.max(image.getWidth(), image.getHeight());
-        }
-    }
-    
-    /**
-     * Dessine le bonus sur le canvas
-     * @param canvas Canvas sur lequel dessiner
-     */
-    public void draw(Canvas canvas) {
-        if (!active) return;
-        
-        if (image != null) {
-            // Dessiner l'image au lieu du cercle
-            canvas.drawBitmap(image, x - image.getWidth()/2, y - image.getHeight()/2, null);
-        } else {
-            // Fallback : dessiner un cercle jaune
-            canvas.drawCircle(x, y, size/2, paint);
-        }
-    }
-    
-    /**
-     * Vérifie si la balle est en collision avec ce bonus
-     * @param ballX Position X de la balle
-     * @param ballY Position Y de la balle
-     * @param ballRadius Rayon de la balle
-     * @return Vrai si la balle entre en collision avec le bonus
-     */
-    public boolean checkCollision(float ballX, float ballY, float ballRadius) {
-        if (!active) return false;
-        
-        // Calculer la distance au carré entre les centres
-        float dx = ballX - x;
-        float dy = ballY - y;
-        float distanceSquared = dx * dx + dy * dy;
-        
-        // Calculer le rayon de collision (somme des rayons)
-        float collisionRadius = ballRadius + size/2;
-        
-        // S'il y a collision
-        return distanceSquared < collisionRadius * collisionRadius;
-    }
-    
-    /**
-     * Collecte le bonus
-     * @return La valeur du bonus
-     */
-    public float collect() {
-        active = false;
-        return value;
-    }
-    
-    /**
-     * Désactive le bonus (par exemple s'il se retrouve dans un mur)
-     */
-    public void deactivate() {
-        active = false;
-    }
-    
-    /**
-     * Vérifie si le bonus est actif
-     * @return Vrai si le bonus est actif
-     */
-    public boolean isActive() {
-        return active;
-    }
-    
-    /**
-     * Récupère la position X du bonus
-     * @return Position X
-     */
-    public float getX() {
-        return x;
-    }
-    
-    /**
-     * Récupère la position Y du bonus
-     * @return Position Y
-     */
-    public float getY() {
-        return y;
-    }
-    
-    /**
-     * Définit la position du bonus
-     * @param x Nouvelle position X
-     * @param y Nouvelle position Y
-     */
-    public void setPosition(float x, float y) {
-        this.x = x;
-        this.y = y;
-    }
-} 
\ No newline at end of file
@@ -7,11 +7,15 @@ import android.hardware.Sensor;
 import android.hardware.SensorEvent;
 import android.hardware.SensorEventListener;
 import android.hardware.SensorManager;
+import android.hardware.display.DisplayManager;
 import android.os.Bundle;
-import android.view.Surface;
+import android.os.SystemClock;
+import android.view.Display;
 import android.view.Window;
 import android.view.WindowManager;
 
+import com.example.gameapp.utils.AxisRemap;
+
 
 public class GameActivity extends Activity implements SensorEventListener {
 
@@ -20,29 +24,59 @@ public class GameActivity extends Activity implements SensorEventListener {
     private GameView gameView;
     private float accelerometerX, accelerometerY;
 
+    // Rotation de l'écran mise en cache : relue seulement quand l'affichage change
+    private DisplayManager displayManager;
+    private final AxisRemap axisRemap = new AxisRemap();
+    private final float[] remappedAxes = new float[2];
+    private final DisplayManager.DisplayListener displayListener = new DisplayManager.DisplayListener() {
+        @Override
+        public void onDisplayAdded(int displayId) {}
+
+        @Override
+        public void onDisplayRemoved(int displayId) {}
+
+        @Override
+        public void onDisplayChanged(int displayId) {
+            if (displayId == Display.DEFAULT_DISPLAY) {
+                updateDisplayRotation();
+            }
+        }
+    };
+
     // Variable pour sauvegarder la lucidité entre les changements d'orientation
     private float savedLucidity = 1.0f;
     private static final String KEY_LUCIDITY = "lucidity";
+    // Graine du labyrinthe, pour le retrouver à l'identique quand l'activité est recréée
+    private static final String KEY_MAZE_SEED = "maze_seed";
+
+    // Latence maximale de regroupement des mesures de l'accéléromètre (en microsecondes)
+    private static final int MAX_REPORT_LATENCY_US = 40_000;
 
     @Override
     protected void onCreate(Bundle savedInstanceState) {
+        // Début de la mesure du temps de démarrage, jusqu'à la première image de GameView
+        long startupNanos = SystemClock.elapsedRealtimeNanos();
         super.onCreate(savedInstanceState);
         //EdgeToEdge.enable(this);
         getWindow().setFlags(WindowManager.LayoutParams.FLAG_FULLSCREEN,
                 WindowManager.LayoutParams.FLAG_FULLSCREEN);
         this.requestWindowFeature(Window.FEATURE_NO_TITLE);
 
-        // Récupérer la lucidité sauvegardée si disponible
+        // Récupérer la lucidité et le labyrinthe sauvegardés si disponibles
+        String savedMazeSeed = null;
         if (savedInstanceState != null) {
             savedLucidity = savedInstanceState.getFloat(KEY_LUCIDITY, 1.0f);
+            savedMazeSeed = savedInstanceState.getString(KEY_MAZE_SEED);
         }
 
         // Initialisation du gestionnaire de capteurs
         sensorManager = (SensorManager) getSystemService(Context.SENSOR_SERVICE);
         accelerometer = sensorManager.getDefaultSensor(Sensor.TYPE_ACCELEROMETER);
+        displayManager = (DisplayManager) getSystemService(Context.DISPLAY_SERVICE);
 
         // Créer et configurer GameView avec la lucidité sauvegardée
-        gameView = new GameView(this, savedLucidity);
+        gameView = new GameView(this, savedLucidity, savedMazeSeed);
+        gameView.setStartupTime(startupNanos);
         setContentView(gameView);
     }
 
@@ -54,14 +88,37 @@ public class GameActivity extends Activity implements SensorEventListener {
         if (gameView != null) {
             savedLucidity = gameView.getLucidityValue();
             outState.putFloat(KEY_LUCIDITY, savedLucidity);
+            outState.putString(KEY_MAZE_SEED, gameView.getMazeSeed());
+        }
+    }
+
+    /**
+     * Relit la rotation de l'écran et met à jour la conversion des axes
+     */
+    private void updateDisplayRotation() {
+        Display display = displayManager.getDisplay(Display.DEFAULT_DISPLAY);
+        if (display != null) {
+            axisRemap.setRotation(display.getRotation());
         }
     }
 
     @Override
     protected void onResume() {
         super.onResume();
+        // Suivre les changements de rotation de l'écran plutôt que l'interroger à chaque mesure
+        updateDisplayRotation();
+        displayManager.registerDisplayListener(displayListener, null);
+
         // Enregistrer l'écouteur du capteur lorsque l'application reprend
-        sensorManager.registerListener(this, accelerometer, SensorManager.SENSOR_DELAY_GAME);
+        // Les mesures peuvent être regroupées par le capteur (moins de réveils du processeur) :
+        // elles sont datées et intégrées sur leur temps réel, le retard ne change pas la physique
+        sensorManager.registerListener(this, accelerometer, SensorManager.SENSOR_DELAY_GAME,
+                MAX_REPORT_LATENCY_US);
+
+        // Relancer la boucle de jeu
+        if (gameView != null) {
+            gameView.onResume();
+        }
     }
 
     @Override
@@ -69,9 +126,11 @@ public class GameActivity extends Activity implements SensorEventListener {
         super.onPause();
         // Désactiver l'écouteur du capteur lorsque l'application est en pause
         sensorManager.unregisterListener(this);
+        displayManager.unregisterDisplayListener(displayListener);
 
-        // Sauvegarder la lucidité actuelle
+        // Arrêter la boucle de jeu et sauvegarder la lucidité actuelle
         if (gameView != null) {
+            gameView.onPause();
             savedLucidity = gameView.getLucidityValue();
         }
     }
@@ -79,36 +138,14 @@ public class GameActivity extends Activity implements SensorEventListener {
     @Override
     public void onSensorChanged(SensorEvent event) {
         if (event.sensor.getType() == Sensor.TYPE_ACCELEROMETER) {
-            // Obtenir la rotation actuelle de l'écran
-            int rotation = getWindowManager().getDefaultDisplay().getRotation();
-
-            // Adapter les valeurs de l'accéléromètre en fonction de l'orientation
-            switch (rotation) {
-                case Surface.ROTATION_0: // Portrait, orientation normale
-                    // Les valeurs standards
-                    accelerometerX = -event.values[0];
-                    accelerometerY = event.values[1];
-                    break;
-                case Surface.ROTATION_90: // Paysage, rotation à gauche
-                    // Inverser les axes et le signe de Y
-                    accelerometerX = event.values[1];
-                    accelerometerY = event.values[0];
-                    break;
-                case Surface.ROTATION_180: // Portrait inversé
-                    // Inverser les deux signes
-                    accelerometerX = event.values[0];
-                    accelerometerY = -event.values[1];
-                    break;
-                case Surface.ROTATION_270: // Paysage, rotation à droite
-                    // Inverser les axes et le signe de X
-                    accelerometerX = -event.values[1];
-                    accelerometerY = -event.values[0];
-                    break;
-            }
+            // Adapter les valeurs de l'accéléromètre à l'orientation de l'écran (rotation en cache)
+            axisRemap.remap(event.values, remappedAxes);
+            accelerometerX = remappedAxes[0];
+            accelerometerY = remappedAxes[1];
 
             // Mettre à jour les données dans GameView
             if (gameView != null) {
-                gameView.updateBallPosition(accelerometerX, accelerometerY);
+                gameView.updateBallPosition(accelerometerX, accelerometerY, event.timestamp);
             }
         }
     }
@@ -0,0 +1,186 @@
+package com.example.gameapp;
+
+import android.graphics.Canvas;
+import android.view.SurfaceHolder;
+
+/**
+ * Moteur du jeu : possède la boucle de jeu et la fait vivre selon le cycle de vie.
+ * La boucle ne tourne que si la surface existe, que l'activité est au premier plan,
+ * que le joueur n'a pas mis le jeu en pause et que la partie n'est pas terminée.
+ * Dans tous les autres cas aucun thread de jeu n'existe : aucune consommation CPU.
+ * Un Thread ne pouvant pas être redémarré, chaque reprise lance un nouveau GameThread.
+ */
+public class GameEngine {
+    private final SurfaceHolder surfaceHolder;
+    private final GameView gameView;
+    private final GameThread.FrameMode frameMode;
+
+    private GameThread thread;
+    private float refreshRate = 60f;
+
+    // Conditions de fonctionnement de la boucle
+    private boolean surfaceReady = false;
+    private boolean resumed = true;
+    private boolean paused = false;
+    private boolean stopped = false;
+
+    public GameEngine(SurfaceHolder surfaceHolder, GameView gameView) {
+        this(surfaceHolder, gameView, GameThread.FrameMode.CHOREOGRAPHER);
+    }
+
+    /**
+     * @param frameMode Cadencement des images : CHOREOGRAPHER (repli automatique sur THREAD_LOOP
+     *                  si indisponible) ou THREAD_LOOP, pour comparer la régularité des deux modes
+     */
+    public GameEngine(SurfaceHolder surfaceHolder, GameView gameView, GameThread.FrameMode frameMode) {
+        this.surfaceHolder = surfaceHolder;
+        this.gameView = gameView;
+        this.frameMode = frameMode;
+    }
+
+    /**
+     * La surface de dessin est disponible
+     * @param refreshRate Fréquence de l'écran en Hz
+     */
+    public void onSurfaceCreated(float refreshRate) {
+        synchronized (this) {
+            this.refreshRate = refreshRate;
+            surfaceReady = true;
+        }
+        updateLoop();
+    }
+
+    /**
+     * La surface a changé de taille : la redessiner si la boucle est arrêtée
+     */
+    public void onSurfaceChanged() {
+        updateLoop();
+    }
+
+    /**
+     * La surface va être détruite : au retour de cet appel, plus rien n'y dessine
+     */
+    public void onSurfaceDestroyed() {
+        synchronized (this) {
+            surfaceReady = false;
+        }
+        updateLoop();
+    }
+
+    /**
+     * L'activité repasse au premier plan
+     */
+    public void resume() {
+        synchronized (this) {
+            resumed = true;
+        }
+        updateLoop();
+    }
+
+    /**
+     * L'activité passe en arrière-plan
+     */
+    public void pause() {
+        synchronized (this) {
+            resumed = false;
+        }
+        updateLoop();
+    }
+
+    /**
+     * Pause demandée par le joueur : la boucle s'arrête après avoir affiché l'écran de pause
+     */
+    public void setPaused(boolean paused) {
+        synchronized (this) {
+            this.paused = paused;
+        }
+        updateLoop();
+    }
+
+    public synchronized boolean isPaused() {
+        return paused;
+    }
+
+    /**
+     * Termine définitivement la partie (fin de partie, victoire, retour au menu).
+     * Peut être appelé depuis le thread de jeu lui-même.
+     * @return true au premier appel, false si la partie était déjà terminée
+     */
+    public boolean stop() {
+        synchronized (this) {
+            if (stopped) return false;
+            stopped = true;
+        }
+        updateLoop();
+        return true;
+    }
+
+    public synchronized boolean isRunning() {
+        return thread != null;
+    }
+
+    /**
+     * Démarre ou arrête la boucle selon l'état courant.
+     * L'attente de fin du thread se fait hors du verrou : le thread de jeu peut lui-même
+     * appeler le moteur (stop) pendant qu'un autre thread attend qu'il se termine.
+     */
+    private void updateLoop() {
+        GameThread finished = null;
+        boolean redraw;
+        synchronized (this) {
+            boolean shouldRun = surfaceReady && resumed && !paused && !stopped;
+            if (shouldRun && thread == null) {
+                thread = new GameThread(surfaceHolder, gameView, frameMode, refreshRate);
+                thread.setRunning(true);
+                thread.start();
+            } else if (!shouldRun && thread != null) {
+                finished = thread;
+                thread = null;
+                finished.setRunning(false);
+            }
+            redraw = !shouldRun && surfaceReady;
+        }
+
+        if (finished != null && finished != Thread.currentThread()) {
+            boolean interrupted = false;
+            while (finished.isAlive()) {
+                try {
+                    finished.join();
+                } catch (InterruptedException e) {
+                    interrupted = true;
+                }
+            }
+            if (interrupted) Thread.currentThread().interrupt();
+        }
+
+        // Boucle arrêtée mais surface visible (pause) : afficher une image fixe
+        if (redraw && finished != Thread.currentThread()) {
+            drawOnce();
+        }
+    }
+
+    /**
+     * Dessine une seule image, hors de la boucle de jeu
+     */
+    private void drawOnce() {
+        Canvas canvas = null;
+        try {
+            canvas = surfaceHolder.lockCanvas();
+            if (canvas == null) return;
+            synchronized (surfaceHolder) {
+                gameView.setInterpolation(1f);
+                gameView.draw(canvas);
+            }
+        } catch (Exception e) {
+            e.printStackTrace();
+        } finally {
+            if (canvas != null) {
+                try {
+                    surfaceHolder.unlockCanvasAndPost(canvas);
+                } catch (Exception e) {
+                    e.printStackTrace();
+                }
+            }
+        }
+    }
+}
@@ -1,47 +1,204 @@
 package com.example.gameapp;
 
 import android.graphics.Canvas;
+import android.os.Looper;
+import android.util.Log;
+import android.view.Choreographer;
 import android.view.SurfaceHolder;
 
-public class GameThread extends Thread {
+import com.example.gameapp.utils.FramePacingStats;
+
+/**
+ * Boucle de jeu à pas de simulation fixe.
+ * La physique avance toujours par pas de STEP_NANOS, quel que soit le rythme d'affichage :
+ * le temps réellement écoulé s'accumule et est consommé pas à pas, puis l'image est dessinée
+ * en interpolant entre les deux derniers états simulés.
+ *
+ * Deux modes de cadencement :
+ * - CHOREOGRAPHER : chaque image est déclenchée par le Choreographer d'un Looper propre au thread,
+ *   donc alignée sur la synchronisation verticale de l'écran ;
+ * - THREAD_LOOP : boucle autonome mesurant le temps écoulé, utilisée en repli.
+ */
+public class GameThread extends Thread implements Choreographer.FrameCallback {
+    private static final String TAG = "GameThread";
+
+    public enum FrameMode { CHOREOGRAPHER, THREAD_LOOP }
+
+    // Pas de simulation : 60 mises à jour par seconde, la vitesse du jeu ne dépend pas de l'écran
+    static final long STEP_NANOS = 1_000_000_000L / 60;
+    // Nombre maximal de pas rattrapés par image, pour ne pas s'enliser si l'appareil est surchargé
+    private static final int MAX_STEPS_PER_FRAME = 5;
+    // Au-delà (thread suspendu, débogueur...), le temps écoulé est tronqué plutôt que rattrapé
+    private static final long MAX_FRAME_NANOS = STEP_NANOS * MAX_STEPS_PER_FRAME;
+    // Durée minimale d'une image, pour ne pas tourner à vide si lockCanvas ne bloque pas
+    private static final long MIN_FRAME_NANOS = 1_000_000_000L / 240;
+    // Fréquence du journal de régularité d'affichage (en images)
+    private static final int PACING_LOG_FRAMES = 600;
+
     private SurfaceHolder surfaceHolder;
     private GameView gameView;
-    private boolean running;
+    private volatile boolean running;
     private Canvas canvas;
+
+    private final FrameMode requestedMode;
+    private FrameMode activeMode;
+    private Choreographer choreographer;
+    private volatile Looper looper;
+
+    // État de la boucle à pas fixe
+    private long previousFrameNanos = -1;
+    private long accumulator;
+
+    // Régularité des images présentées, pour comparer les deux modes
+    private final FramePacingStats framePacing;
+
     public GameThread(SurfaceHolder surfaceHolder, GameView gameView) {
-        super();
+        this(surfaceHolder, gameView, FrameMode.CHOREOGRAPHER, 60f);
+    }
+
+    /**
+     * @param mode Mode de cadencement souhaité (THREAD_LOOP si le Choreographer est indisponible)
+     * @param refreshRate Fréquence de l'écran en Hz, pour détecter les images en retard
+     */
+    public GameThread(SurfaceHolder surfaceHolder, GameView gameView, FrameMode mode, float refreshRate) {
+        super("GameThread");
         this.surfaceHolder = surfaceHolder;
         this.gameView = gameView;
+        this.requestedMode = mode;
+        this.framePacing = new FramePacingStats(refreshRate);
     }
+
     public void setRunning(boolean isRunning) {
         running = isRunning;
+        // En mode Choreographer le thread attend dans son Looper : le libérer
+        Looper current = looper;
+        if (!isRunning && current != null) {
+            current.quit();
+        }
+    }
+
+    /**
+     * Mode de cadencement effectivement utilisé (connu une fois le thread démarré)
+     */
+    public FrameMode getFrameMode() {
+        return activeMode;
+    }
+
+    public FramePacingStats getFramePacing() {
+        return framePacing;
     }
 
     @Override
     public void run() {
+        if (requestedMode == FrameMode.CHOREOGRAPHER && prepareChoreographer()) {
+            activeMode = FrameMode.CHOREOGRAPHER;
+            choreographer.postFrameCallback(this);
+            // Le Looper distribue les rappels d'image jusqu'à setRunning(false)
+            Looper.loop();
+            looper = null;
+            return;
+        }
+
+        activeMode = FrameMode.THREAD_LOOP;
+        runThreadLoop();
+    }
 
+    /**
+     * Crée le Looper du thread et son Choreographer
+     * @return false si l'un des deux est indisponible : la boucle de repli prend alors le relais
+     */
+    private boolean prepareChoreographer() {
+        try {
+            Looper.prepare();
+            looper = Looper.myLooper();
+            choreographer = Choreographer.getInstance();
+        } catch (RuntimeException e) {
+            Log.w(TAG, "Choreographer indisponible, boucle de repli", e);
+            choreographer = null;
+        }
+        if (choreographer != null && looper != null) return true;
+        looper = null;
+        return false;
+    }
+
+    /**
+     * Rappel du Choreographer : une image par synchronisation verticale
+     */
+    @Override
+    public void doFrame(long frameTimeNanos) {
+        if (!running) {
+            Looper current = looper;
+            if (current != null) current.quit();
+            return;
+        }
+        renderFrame(frameTimeNanos);
+        choreographer.postFrameCallback(this);
+    }
+
+    /**
+     * Boucle de repli sans Choreographer
+     */
+    private void runThreadLoop() {
         while (running) {
-            canvas = null;
-            try {
-                canvas = this.surfaceHolder.lockCanvas();
-                synchronized(surfaceHolder) {
+            long frameStart = System.nanoTime();
+            renderFrame(frameStart);
+
+            // Attendre seulement le temps restant de l'image, mesuré et non supposé
+            long remaining = MIN_FRAME_NANOS - (System.nanoTime() - frameStart);
+            if (remaining > 0) {
+                try {
+                    Thread.sleep(remaining / 1_000_000L, (int) (remaining % 1_000_000L));
+                } catch (InterruptedException e) {
+                    e.printStackTrace();
+                }
+            }
+        }
+    }
+
+    /**
+     * Avance la simulation du temps écoulé depuis l'image précédente puis dessine
+     * @param frameTimeNanos Instant de l'image (horloge System.nanoTime)
+     */
+    private void renderFrame(long frameTimeNanos) {
+        if (previousFrameNanos >= 0) {
+            accumulator += Math.min(frameTimeNanos - previousFrameNanos, MAX_FRAME_NANOS);
+        }
+        previousFrameNanos = frameTimeNanos;
+
+        framePacing.recordFrame(frameTimeNanos);
+        if (framePacing.getIntervalCount() >= PACING_LOG_FRAMES) {
+            Log.d(TAG, activeMode + " : " + framePacing);
+            framePacing.reset();
+        }
+
+        canvas = null;
+        try {
+            canvas = this.surfaceHolder.lockCanvas();
+            synchronized(surfaceHolder) {
+                // Consommer le temps écoulé par pas fixes
+                int steps = 0;
+                while (accumulator >= STEP_NANOS && steps < MAX_STEPS_PER_FRAME) {
                     this.gameView.update();
-                    this.gameView.draw(canvas);
+                    accumulator -= STEP_NANOS;
+                    steps++;
                 }
-            } catch (Exception e) {}
-            finally {
-                if (canvas != null) {
-                    try {
-                        surfaceHolder.unlockCanvasAndPost(canvas);
-                    } catch (Exception e) {
-                        e.printStackTrace();
-                    }
+                // Retard impossible à rattraper : l'abandonner plutôt que l'accumuler
+                if (accumulator >= STEP_NANOS) {
+                    accumulator %= STEP_NANOS;
                 }
+
+                // Fraction du pas en cours, pour dessiner entre l'état précédent et l'état courant
+                this.gameView.setInterpolation((float) accumulator / STEP_NANOS);
+                this.gameView.draw(canvas);
             }
-            try {
-                Thread.sleep(16); // ~16ms = 1000ms / 60 FPS
-            } catch (InterruptedException e) {
-                e.printStackTrace();
+        } catch (Exception e) {}
+        finally {
+            if (canvas != null) {
+                try {
+                    surfaceHolder.unlockCanvasAndPost(canvas);
+                } catch (Exception e) {
+                    e.printStackTrace();
+                }
             }
         }
     }
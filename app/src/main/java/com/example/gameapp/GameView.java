@@ -6,12 +6,12 @@ import android.graphics.Bitmap;
 import android.graphics.BitmapFactory;
 import android.graphics.Canvas;
 import android.graphics.Color;
-import android.graphics.Matrix;
 import android.graphics.Paint;
 import android.graphics.Point;
 import android.hardware.Sensor;
 import android.hardware.SensorEvent;
 import android.hardware.SensorEventListener;
+import android.os.SystemClock;
 import android.util.Log;
 import android.graphics.RectF;
 import android.view.Display;
@@ -20,17 +20,40 @@ import android.view.SurfaceHolder;
 import android.view.SurfaceView;
 import android.view.WindowManager;
 
-import com.example.gameapp.utils.MazeGenerator;
-import com.example.gameapp.utils.MazePainter;
+import com.example.gameapp.utils.DistanceField;
+import com.example.gameapp.utils.InputRing;
+import com.example.gameapp.utils.MazeAlgorithm;
+import com.example.gameapp.utils.MazeGrid;
+import com.example.gameapp.utils.MazeProvider;
+import com.example.gameapp.utils.MazeSeed;
+import com.example.gameapp.utils.PreparedMaze;
+import com.example.gameapp.utils.RotatedMazeView;
+import com.example.gameapp.utils.TiltIntegrator;
+import com.example.gameapp.utils.WallRectangles;
 
 import android.hardware.SensorManager;
 
 public class GameView extends SurfaceView implements SurfaceHolder.Callback, SensorEventListener {
-    private GameThread thread;
+    private GameEngine engine; // Boucle de jeu, pilotée par le cycle de vie
     private int y;
     private int x=0;
 
-    private MazePainter mazePainter;
+    private static final String TAG = "GameView";
+
+    // Cadencement des images : THREAD_LOOP pour comparer sa régularité (journal de GameThread)
+    private static final GameThread.FrameMode FRAME_MODE = GameThread.FrameMode.CHOREOGRAPHER;
+
+    // Algorithme de génération des labyrinthes (voir MazeAlgorithm)
+    private static final int MAZE_ALGORITHM = MazeAlgorithm.BACKTRACKER;
+
+    // Labyrinthes générés à l'avance en arrière-plan, partagés entre les parties
+    private static final MazeProvider mazeProvider = new MazeProvider(MAZE_ALGORITHM, 10, 10, 2);
+
+    // Graine du labyrinthe en cours, null s'il a été fourni sous forme de grille
+    private MazeSeed mazeSeed;
+
+    // Début du lancement (GameActivity.onCreate), pour mesurer le temps jusqu'à la première image
+    private long startupNanos = -1;
 
 
     private Context context;
@@ -39,6 +62,10 @@ public class GameView extends SurfaceView implements SurfaceHolder.Callback, Sen
     private float circleX = 200; // Position X du centre du cercle
     private float circleY = 200; // Position Y du centre du cercle
     private float circleRadius = 12; // Rayon du cercle en pixels
+    // Position au pas de simulation précédent, pour interpoler l'affichage entre deux pas
+    private float previousCircleX = 200;
+    private float previousCircleY = 200;
+    private float interpolation = 1f; // Fraction du pas en cours (0 = état précédent, 1 = état courant)
 
     private Paint circlePaint; // Pinceau pour dessiner le cercle
     
@@ -60,13 +87,20 @@ public class GameView extends SurfaceView implements SurfaceHolder.Callback, Sen
     private int screenHeight;
     
     // Variables pour le labyrinthe
-    private int[][] mazeGrid;  // La grille du labyrinthe (1=mur, 0=passage)
+    private RotatedMazeView mazeGrid; // La grille du labyrinthe dans l'orientation courante (1=mur, 0=passage)
     private float cellSize;    // Taille d'une cellule en pixels
     private float mazeOffsetX; // Décalage X pour centrer le labyrinthe
     private float mazeOffsetY; // Décalage Y pour centrer le labyrinthe
+    private DistanceField distanceField; // Distance aux murs, calculée une fois par labyrinthe
+    private WallRectangles wallRectangles; // Murs fusionnés en rectangles, calculés une fois par labyrinthe
     private MazeCollisionHandler collisionHandler;
+    // Objets réutilisés à chaque frame pour éviter les allocations pendant la boucle de jeu
+    private final MazeCollisionHandler.CollisionInfo collision = new MazeCollisionHandler.CollisionInfo();
+    private final float[] velocity = new float[2];
+    private final float[] position = new float[2];
     private Paint wallPaint;   // Pinceau pour dessiner les murs
     private Bitmap wallTexture; // Texture pour les murs du labyrinthe
+    private MazeLayerCache mazeLayers; // Labyrinthe pré-rendu, un calque par orientation
 
     // Variables pour la sortie du labyrinthe
     private int exitGridX;     // Position X de la sortie dans la grille
@@ -76,24 +110,27 @@ public class GameView extends SurfaceView implements SurfaceHolder.Callback, Sen
     
     // Gestionnaire de lucidité pour les effets LSD
     private LucidityManager lucidityManager;
-    private Matrix waveMatrix;
+    
+    // Décalage maximal entre l'horloge des capteurs et celle de la simulation
+    // (supérieur à la latence de regroupement des mesures de l'accéléromètre)
+    private static final long MAX_INPUT_LAG_NANOS = 250_000_000L;
     
     // Variables pour la dernière position de l'accéléromètre
     private float lastAccelerometerX = 0;
     private float lastAccelerometerY = 0;
+    // Échantillons de l'accéléromètre transmis sans verrou par le thread des capteurs
+    private final InputRing inputRing = new InputRing(64);
+    // Inclinaison intégrée sur le temps réel des mesures, pas après pas
+    private final TiltIntegrator tiltIntegrator =
+            new TiltIntegrator(GameThread.STEP_NANOS, MAX_INPUT_LAG_NANOS);
+    // Commandes après effets de lucidité (réutilisé à chaque pas)
+    private final float[] modifiedControls = new float[2];
     
-    // Variables pour détecter la balle bloquée
-    private float lastCircleX = 0;
-    private float lastCircleY = 0;
-    private int stuckCounter = 0;
-    private static final int MAX_STUCK_FRAMES = 15; // Nombre de frames avant de considérer la balle comme bloquée
-
 
     // Gestionnaire de bonus
     private BonusManager bonusManager;
 
-    // Variables pour les différentes configurations de labyrinthe
-    private int[][][] mazeConfigurations;
+    // Configuration courante du labyrinthe (nombre de quarts de tour de la vue)
     private int currentMazeIndex = 0;
 
     private Paint backgroundPaint;
@@ -102,14 +139,19 @@ public class GameView extends SurfaceView implements SurfaceHolder.Callback, Sen
     private SensorManager sensorManager;
 
     public GameView(Context context, float initialLucidity) {
+        this(context, initialLucidity, null);
+    }
+
+    /**
+     * @param savedMazeSeed Graine d'un labyrinthe à reprendre (voir getMazeSeed()), ou null pour un nouveau
+     */
+    public GameView(Context context, float initialLucidity, String savedMazeSeed) {
         super(context);
         this.context = context;
         getHolder().addCallback(this);
-        thread = new GameThread(getHolder(), this);
+        engine = new GameEngine(getHolder(), this, FRAME_MODE);
         setFocusable(true);
 
-        this.mazePainter = new MazePainter(context, 10, 10);
-
         // Initialisation du cercle
         circleX = 200; // Position X initiale
         circleY = 200; // Position Y initiale
@@ -138,16 +180,16 @@ public class GameView extends SurfaceView implements SurfaceHolder.Callback, Sen
         exitPaint = new Paint();
         exitPaint.setColor(Color.GREEN);
         exitPaint.setAntiAlias(true);
+        mazeLayers = new MazeLayerCache(wallPaint, exitPaint);
         
         // Chargement de la texture pour les murs
         wallTexture = BitmapFactory.decodeResource(context.getResources(), R.drawable.champi);
 
-        // Exemple de labyrinthe simple (pour les tests)
-        createTestMaze();
+        // Labyrinthe repris depuis sa graine, ou déjà préparé en arrière-plan
+        createTestMaze(savedMazeSeed);
         
         // Initialiser le gestionnaire de lucidité avec la valeur sauvegardée
         lucidityManager = new LucidityManager(initialLucidity);
-        waveMatrix = new Matrix();
 
         // Initialiser le gestionnaire de bonus
         bonusManager = new BonusManager(0, 0);
@@ -167,129 +209,100 @@ public class GameView extends SurfaceView implements SurfaceHolder.Callback, Sen
     }
     
     /**
-     * Crée un labyrinthe de test simple
+     * Lance la préparation des labyrinthes en arrière-plan, avant même la création de la vue
      */
-    private void createTestMaze() {
-
-        mazeGrid = this.mazePainter.getLabyrinth();
-        // Initialiser les configurations (4 rotations différentes)
-        mazeConfigurations = new int[4][][];
-
-        // Configuration 1 (100-76% de lucidité) - labyrinthe original
-        mazeConfigurations[0] = mazeGrid;
+    static void prefetchMazes() {
+        mazeProvider.start();
+    }
 
-        // Configuration 2 (75-51% de lucidité) - rotation 90°
-        mazeConfigurations[1] = rotateMaze(mazeGrid, 1);
+    /**
+     * Instant de début du lancement (horloge SystemClock.elapsedRealtimeNanos),
+     * pour journaliser le temps écoulé jusqu'à la première image dessinée
+     */
+    public void setStartupTime(long startupNanos) {
+        this.startupNanos = startupNanos;
+    }
 
-        // Configuration 3 (50-26% de lucidité) - rotation 180°
-        mazeConfigurations[2] = rotateMaze(mazeGrid, 2);
+    /**
+     * Graine du labyrinthe en cours, à sauvegarder pour le régénérer à l'identique
+     * @return Graine au format texte, ou null si le labyrinthe n'en a pas
+     */
+    public String getMazeSeed() {
+        return mazeSeed != null ? mazeSeed.toString() : null;
+    }
 
-        // Configuration 4 (25-0% de lucidité) - rotation 270°
-        mazeConfigurations[3] = rotateMaze(mazeGrid, 3);
+    /**
+     * Installe le labyrinthe décrit par une graine sauvegardée, sinon le prochain préparé à l'avance
+     */
+    private void createTestMaze(String savedMazeSeed) {
 
-        // Initialiser le labyrinthe avec la première configuration
-        mazeGrid = mazeConfigurations[0];
-        
-        // Définir la position de la sortie exactement au coin opposé de l'entrée
-        // (supposant que l'entrée est en haut à gauche)
-        exitGridX = mazeGrid[0].length - 1;
-        exitGridY = mazeGrid.length - 1;
-        
-        // S'assurer que cette position est bien un passage (0) et non un mur (1)
-        if (mazeGrid[exitGridY][exitGridX] == 1) {
-            // Si c'est un mur, chercher la cellule libre la plus proche du coin
-            for (int i = 1; i < Math.max(mazeGrid.length, mazeGrid[0].length); i++) {
-                // Vérifier horizontalement à gauche
-                if (exitGridX - i >= 0 && mazeGrid[exitGridY][exitGridX - i] == 0) {
-                    exitGridX = exitGridX - i;
-                    break;
-                }
-                // Vérifier verticalement en haut
-                if (exitGridY - i >= 0 && mazeGrid[exitGridY - i][exitGridX] == 0) {
-                    exitGridY = exitGridY - i;
-                    break;
-                }
-                // Vérifier diagonalement
-                if (exitGridX - i >= 0 && exitGridY - i >= 0 && mazeGrid[exitGridY - i][exitGridX - i] == 0) {
-                    exitGridX = exitGridX - i;
-                    exitGridY = exitGridY - i;
-                    break;
-                }
+        // Une seule grille, vue selon 4 orientations :
+        // 100-76% de lucidité : labyrinthe original, 75-51% : rotation 90°,
+        // 50-26% : rotation 180°, 25-0% : rotation 270°
+        PreparedMaze maze = null;
+        if (savedMazeSeed != null) {
+            try {
+                // Régénérer depuis la graine coûte moins que sauvegarder la grille
+                maze = new PreparedMaze(MazeSeed.parse(savedMazeSeed));
+            } catch (IllegalArgumentException e) {
+                Log.w(TAG, "Graine de labyrinthe ignorée : " + savedMazeSeed, e);
             }
         }
+        if (maze == null) {
+            maze = mazeProvider.take();
+        }
+        mazeSeed = maze.getSeed();
+        // Préparer déjà le labyrinthe suivant
+        mazeProvider.start();
+        mazeGrid = maze.getView();
+        distanceField = maze.getDistanceField();
+        wallRectangles = maze.getWallRectangles();
+        currentMazeIndex = 0;
+        
+        // Sortie au coin opposé de l'entrée, calculée avec le labyrinthe
+        exitGridX = maze.getExitX();
+        exitGridY = maze.getExitY();
 
         // Charger la texture du mur
         if (wallTexture == null) {
             wallTexture = BitmapFactory.decodeResource(context.getResources(), R.drawable.champi);
         }
     }
-    /**
-     * Fait pivoter la grille du labyrinthe
-     * @param original La grille originale
-     * @param rotations Le nombre de rotations de 90° à effectuer (1-3)
-     * @return La grille pivotée
-     */
-    private int[][] rotateMaze(int[][] original, int rotations) {
-        int rows = original.length;
-        int cols = original[0].length;
-        int[][] result = new int[rows][cols];
-
-        // Normaliser le nombre de rotations (0-3)
-        rotations = rotations % 4;
-
-        // Pas de rotation nécessaire
-        if (rotations == 0) {
-            return original;
-        }
-
-        // Effectuer la rotation en fonction du nombre spécifié
-        for (int i = 0; i < rows; i++) {
-            for (int j = 0; j < cols; j++) {
-                switch (rotations) {
-                    case 1: // 90° dans le sens horaire
-                        result[j][rows - 1 - i] = original[i][j];
-                        break;
-                    case 2: // 180°
-                        result[rows - 1 - i][cols - 1 - j] = original[i][j];
-                        break;
-                    case 3: // 270° dans le sens horaire (ou 90° dans le sens anti-horaire)
-                        result[cols - 1 - j][i] = original[i][j];
-                        break;
-                }
-            }
-        }
-
-        return result;
-    }
 
     /**
      * Méthode pour définir ou mettre à jour le labyrinthe
      * @param grid La grille du labyrinthe (1=mur, 0=passage)
      * @param cellSize Taille d'une cellule en pixels
      */
-    public void setMaze(int[][] grid, float cellSize) {
-        this.mazeGrid = grid;
+    public void setMaze(MazeGrid grid, float cellSize) {
+        if (mazeGrid == null || mazeGrid.getBase() != grid) {
+            this.mazeGrid = new RotatedMazeView(grid);
+            this.distanceField = new DistanceField(mazeGrid);
+            this.wallRectangles = new WallRectangles(grid);
+            currentMazeIndex = 0;
+        }
         this.cellSize = cellSize;
         
         // Calculer les offsets pour centrer le labyrinthe
         if (grid != null) {
-            float mazeWidth = grid[0].length * cellSize;
-            float mazeHeight = grid.length * cellSize;
+            float mazeWidth = grid.getWidth() * cellSize;
+            float mazeHeight = grid.getHeight() * cellSize;
             this.mazeOffsetX = (screenWidth - mazeWidth) / 2;
             this.mazeOffsetY = (screenHeight - mazeHeight) / 2;
         }
         
         if (collisionHandler == null) {
-            collisionHandler = new MazeCollisionHandler(grid, cellSize);
+            collisionHandler = new MazeCollisionHandler(mazeGrid, cellSize);
             collisionHandler.setMazeOffset(mazeOffsetX, mazeOffsetY);
         } else {
-            collisionHandler.updateMazeGrid(grid);
+            collisionHandler.updateMazeGrid(mazeGrid);
             collisionHandler.setMazeOffset(mazeOffsetX, mazeOffsetY);
         }
+        collisionHandler.setWallRectangles(wallRectangles);
         
         // Mettre à jour la grille pour le gestionnaire de bonus
         if (bonusManager != null) {
-            bonusManager.updateMazeGrid(grid, cellSize);
+            bonusManager.updateMazeGrid(mazeGrid, cellSize);
             bonusManager.setMazeOffset(mazeOffsetX, mazeOffsetY);
         }
 
@@ -297,6 +310,7 @@ public class GameView extends SurfaceView implements SurfaceHolder.Callback, Sen
         if (wallTexture != null) {
             wallTexture = Bitmap.createScaledBitmap(wallTexture, (int)cellSize, (int)cellSize, true);
         }
+        mazeLayers.invalidate(wallRectangles, cellSize, wallTexture);
 
         // Placer la balle à une position valide dans le labyrinthe
         placeBallInMaze();
@@ -308,9 +322,9 @@ public class GameView extends SurfaceView implements SurfaceHolder.Callback, Sen
     private void placeBallInMaze() {
         // Recherche simple d'une position valide (première cellule vide trouvée)
         if (mazeGrid != null) {
-            for (int y = 0; y < mazeGrid.length; y++) {
-                for (int x = 0; x < mazeGrid[0].length; x++) {
-                    if (mazeGrid[y][x] == 0) {
+            for (int y = 0; y < mazeGrid.getHeight(); y++) {
+                for (int x = 0; x < mazeGrid.getWidth(); x++) {
+                    if (!mazeGrid.isWall(x, y)) {
                         // Position trouvée, placer la balle au centre de cette cellule
                         circleX = mazeOffsetX + (x + 0.5f) * cellSize;
                         circleY = mazeOffsetY + (y + 0.5f) * cellSize;
@@ -380,31 +394,45 @@ public class GameView extends SurfaceView implements SurfaceHolder.Callback, Sen
         if (mazeGrid != null && collisionHandler == null) {
             // Calculer une taille de cellule appropriée
             float mazeCellSize = Math.min(
-                screenWidth / mazeGrid[0].length,
-                screenHeight / mazeGrid.length
+                screenWidth / mazeGrid.getWidth(),
+                screenHeight / mazeGrid.getHeight()
             );
-            setMaze(mazeGrid, mazeCellSize);
+            setMaze(mazeGrid.getBase(), mazeCellSize);
         }
+
+        // La balle a été replacée : l'afficher directement à sa nouvelle position
+        snapInterpolation();
+        engine.onSurfaceChanged();
+    }
+
+    /**
+     * L'activité repasse au premier plan : relancer la boucle si rien ne l'en empêche
+     */
+    public void onResume() {
+        // Les mesures reçues pendant l'arrêt ne correspondent plus à l'inclinaison actuelle
+        inputRing.discardPending();
+        tiltIntegrator.reset();
+        engine.resume();
+    }
+
+    /**
+     * L'activité passe en arrière-plan : arrêter la boucle (aucun calcul en arrière-plan)
+     */
+    public void onPause() {
+        engine.pause();
     }
 
     @Override
     public void surfaceCreated(SurfaceHolder holder) {
-        thread.setRunning(true);
-        thread.start();
+        // Les à-coups se mesurent par rapport à la fréquence réelle de l'écran
+        Display display = getDisplay();
+        engine.onSurfaceCreated(display != null ? display.getRefreshRate() : 60f);
     }
     
     @Override
     public void surfaceDestroyed(SurfaceHolder holder) {
-        boolean retry = true;
-        while (retry) {
-            try {
-                thread.setRunning(false);
-                thread.join();
-            } catch (InterruptedException e) {
-                e.printStackTrace();
-            }
-            retry = false;
-        }
+        // Arrête la boucle et attend qu'elle ait fini de dessiner sur la surface
+        engine.onSurfaceDestroyed();
     }
     
     @Override
@@ -416,61 +444,21 @@ public class GameView extends SurfaceView implements SurfaceHolder.Callback, Sen
             backgroundPaint.setColor(Color.rgb(darkness, darkness, darkness));
             canvas.drawRect(0, 0, getWidth(), getHeight(), backgroundPaint);
 
+            // Position affichée, interpolée entre les deux derniers pas de simulation
+            float renderX = previousCircleX + (circleX - previousCircleX) * interpolation;
+            float renderY = previousCircleY + (circleY - previousCircleY) * interpolation;
+
             // Dessiner le cercle
-            canvas.drawCircle(circleX, circleY, circleRadius, circlePaint);
+            canvas.drawCircle(renderX, renderY, circleRadius, circlePaint);
 
 
-            // Sauvegarder l'état actuel du canvas
-            canvas.save();
-            
-            // Dessiner le labyrinthe si disponible
+            // Dessiner le labyrinthe (murs et sortie) à partir de son calque pré-rendu
             if (mazeGrid != null && cellSize > 0) {
-                for (int y = 0; y < mazeGrid.length; y++) {
-                    for (int x = 0; x < mazeGrid[0].length; x++) {
-                        if (mazeGrid[y][x] == 1) {
-                            // Calculer la position du mur
-                            float wallX = mazeOffsetX + x * cellSize;
-                            float wallY = mazeOffsetY + y * cellSize;
-                            
-                            // Appliquer l'effet d'ondulation si nécessaire
-                            canvas.save();
-                            lucidityManager.applyWaveEffect(canvas, waveMatrix, wallX, wallY, cellSize, cellSize);
-                            
-                            // Dessiner un mur avec texture ou couleur simple
-                            if (wallTexture != null) {
-                                // Avec texture
-                                canvas.drawBitmap(wallTexture, wallX, wallY, null);
-                            } else {
-                                // Fallback avec couleur unie
-                                canvas.drawRect(
-                                    wallX,
-                                    wallY,
-                                    wallX + cellSize,
-                                    wallY + cellSize,
-                                    wallPaint
-                                );
-                            }
-                            
-                            // Restaurer l'état du canvas
-                            canvas.restore();
-                        }
-                    }
+                Bitmap mazeLayer = mazeLayers.getLayer(mazeGrid, exitGridX, exitGridY);
+                if (mazeLayer != null) {
+                    drawMazeLayer(canvas, mazeLayer);
                 }
-                
-                // Dessiner la sortie
-                float exitX = mazeOffsetX + exitGridX * cellSize;
-                float exitY = mazeOffsetY + exitGridY * cellSize;
-                canvas.drawRect(
-                    exitX,
-                    exitY,
-                    exitX + cellSize,
-                    exitY + cellSize,
-                    exitPaint
-                );
             }
-            
-            // Restaurer l'état du canvas
-            canvas.restore();
 
 
             // Dessiner les bonus
@@ -479,7 +467,7 @@ public class GameView extends SurfaceView implements SurfaceHolder.Callback, Sen
             }
 
             // Dessiner le cercle
-            canvas.drawCircle(circleX, circleY, circleRadius, circlePaint);
+            canvas.drawCircle(renderX, renderY, circleRadius, circlePaint);
             
             // Dessiner la jauge de lucidité
             lucidityManager.drawLucidityGauge(canvas, screenWidth, screenHeight);
@@ -518,17 +506,64 @@ public class GameView extends SurfaceView implements SurfaceHolder.Callback, Sen
                     screenHeight / 2,
                     pauseTextPaint);
             }
+
+            // Première image : journaliser le temps de démarrage depuis GameActivity.onCreate
+            if (startupNanos >= 0) {
+                long elapsedMs = (SystemClock.elapsedRealtimeNanos() - startupNanos) / 1_000_000;
+                Log.i(TAG, "Première image après " + elapsedMs + " ms (labyrinthes générés sur place : "
+                        + mazeProvider.getSynchronousCount() + ")");
+                startupNanos = -1;
+            }
         }
     }
     
+    /**
+     * Fraction du pas de simulation écoulée depuis le dernier update(), fournie par la boucle de jeu
+     */
+    public void setInterpolation(float interpolation) {
+        this.interpolation = interpolation;
+    }
+
+    /**
+     * Oublie la position précédente après un déplacement instantané de la balle,
+     * pour ne pas dessiner de glissement entre l'ancienne et la nouvelle position
+     */
+    private void snapInterpolation() {
+        previousCircleX = circleX;
+        previousCircleY = circleY;
+    }
+
+    /**
+     * Recopie le calque du labyrinthe : une seule opération, déformée par un maillage
+     * quand l'ondulation est active
+     */
+    private void drawMazeLayer(Canvas canvas, Bitmap mazeLayer) {
+        if (lucidityManager.hasWaveEffect()) {
+            lucidityManager.drawWithWave(canvas, mazeLayer, mazeOffsetX, mazeOffsetY);
+        } else {
+            canvas.drawBitmap(mazeLayer, mazeOffsetX, mazeOffsetY, null);
+        }
+    }
+
+    /**
+     * Avance la simulation d'un pas fixe (1/60 s)
+     */
     public void update() {
+        // Mémoriser l'état précédent pour l'interpolation de l'affichage
+        snapInterpolation();
+
         // Si le jeu est en pause, ne pas mettre à jour
         if (isPaused) return;
 
+        // Intégrer les mesures de l'accéléromètre sur la durée de ce pas
+        tiltIntegrator.advance(inputRing, SystemClock.elapsedRealtimeNanos());
+        applyTilt();
+
         // Mise à jour du gestionnaire de lucidité
         lucidityManager.update();
         if(lucidityManager.getLucidity() == 0.0){
             gameOver();
+            return;
         }
         
         // Mise à jour de la configuration du labyrinthe en fonction de la lucidité
@@ -537,31 +572,23 @@ public class GameView extends SurfaceView implements SurfaceHolder.Callback, Sen
         // Mise à jour du carré existant
         x = (x + 1) % 300;
 
-        // Vérifier si la balle est bloquée
-        if (Math.abs(circleX - lastCircleX) < 0.1f && Math.abs(circleY - lastCircleY) < 0.1f) {
-            stuckCounter++;
-            if (stuckCounter > MAX_STUCK_FRAMES) {
-                // La balle est bloquée, appliquer une petite force aléatoire pour la débloquer
-                velocityX += (Math.random() - 0.5f) * 1.5f;
-                velocityY += (Math.random() - 0.5f) * 1.5f;
-                stuckCounter = 0; // Réinitialiser le compteur
-            }
+        // Mise à jour de la position de la balle en fonction de sa vitesse,
+        // avec détection continue pour ne pas traverser les murs à grande vitesse
+        if (collisionHandler != null) {
+            position[0] = circleX;
+            position[1] = circleY;
+            velocity[0] = velocityX;
+            velocity[1] = velocityY;
+            collisionHandler.moveAndCollide(position, velocity, circleRadius, damping, collision);
+            circleX = position[0];
+            circleY = position[1];
+            velocityX = velocity[0];
+            velocityY = velocity[1];
         } else {
-            stuckCounter = 0; // Réinitialiser le compteur si la balle bouge
+            circleX += velocityX;
+            circleY += velocityY;
         }
         
-        // Sauvegarder la position actuelle
-        lastCircleX = circleX;
-        lastCircleY = circleY;
-        
-        // Sauvegarder la position actuelle pour revenir en arrière en cas de collision
-        float prevX = circleX;
-        float prevY = circleY;
-        
-        // Mise à jour de la position de la balle en fonction de sa vitesse
-        circleX += velocityX;
-        circleY += velocityY;
-        
         // Empêcher des valeurs trop petites qui pourraient causer un gel
         if (Math.abs(velocityX) < 0.01f && Math.abs(velocityY) < 0.01f) {
             // Si la balle est presque immobile mais l'accéléromètre indique un mouvement,
@@ -575,16 +602,14 @@ public class GameView extends SurfaceView implements SurfaceHolder.Callback, Sen
         // Vérifier les collisions avec le labyrinthe
         if (collisionHandler != null) {
             // Vérifier les collisions
-            MazeCollisionHandler.CollisionInfo collision = 
-                collisionHandler.checkCollision(circleX, circleY, circleRadius);
-            
-            if (collision.hasCollided) {
-                // Repositionner la balle hors du mur
-                circleX = prevX + collision.normalX * collision.penetration;
-                circleY = prevY + collision.normalY * collision.penetration;
+            if (collisionHandler.checkCollision(circleX, circleY, circleRadius, collision)) {
+                // Repositionner la balle hors de tous les murs touchés en une seule fois
+                circleX += collision.normalX * collision.penetration;
+                circleY += collision.normalY * collision.penetration;
                 
                 // Calculer le rebond
-                float[] velocity = {velocityX, velocityY};
+                velocity[0] = velocityX;
+                velocity[1] = velocityY;
                 collisionHandler.resolveCollision(collision, velocity, damping);
                 velocityX = velocity[0];
                 velocityY = velocity[1];
@@ -631,8 +656,8 @@ public class GameView extends SurfaceView implements SurfaceHolder.Callback, Sen
     }
 
     private void gameOver() {
-            // Arrêter le jeu
-            thread.setRunning(false);
+            // Arrêter le jeu (une seule fois)
+            if (!engine.stop()) return;
 
             android.content.Intent intent = new android.content.Intent(context, GameOverActivity.class);
             context.startActivity(intent);
@@ -672,13 +697,23 @@ public class GameView extends SurfaceView implements SurfaceHolder.Callback, Sen
     }
 
     // Méthode appelée par MainActivity pour mettre à jour la position de la balle
-    public void updateBallPosition(float accelerometerX, float accelerometerY) {
+    public void updateBallPosition(float accelerometerX, float accelerometerY, long timestampNanos) {
+        // Appelé depuis le thread des capteurs : l'échantillon est seulement déposé dans la file,
+        // la simulation l'intègrera sur son intervalle de temps réel
+        inputRing.offer(accelerometerX, accelerometerY, timestampNanos);
+    }
+
+    /**
+     * Applique l'inclinaison intégrée sur un pas à la vitesse de la balle (thread de jeu)
+     */
+    private void applyTilt() {
         // Sauvegarder les valeurs de l'accéléromètre pour référence
-        lastAccelerometerX = accelerometerX;
-        lastAccelerometerY = accelerometerY;
+        lastAccelerometerX = tiltIntegrator.getHeldX();
+        lastAccelerometerY = tiltIntegrator.getHeldY();
 
-        // Appliquer les effets LSD aux contrôles
-        float[] modifiedControls = lucidityManager.applyControlEffects(accelerometerX, accelerometerY);
+        // Appliquer les effets LSD aux contrôles (linéaires : applicables à l'intégrale)
+        lucidityManager.applyControlEffects(
+                tiltIntegrator.getStepTiltX(), tiltIntegrator.getStepTiltY(), modifiedControls);
 
         // Ajout de l'accélération aux vitesses
         velocityX += modifiedControls[0] * gravity;
@@ -717,7 +752,7 @@ public class GameView extends SurfaceView implements SurfaceHolder.Callback, Sen
      * Met à jour la configuration du labyrinthe en fonction du niveau de lucidité
      */
     private void updateMazeConfiguration() {
-        if (lucidityManager == null || mazeConfigurations == null) return;
+        if (lucidityManager == null || mazeGrid == null) return;
 
         float lucidity = lucidityManager.getLucidity();
         int newMazeIndex;
@@ -736,8 +771,8 @@ public class GameView extends SurfaceView implements SurfaceHolder.Callback, Sen
         // Si la configuration doit changer
         if (newMazeIndex != currentMazeIndex) {
             // Dimensions du labyrinthe et centre
-            int rows = mazeGrid.length;
-            int cols = mazeGrid[0].length;
+            int rows = mazeGrid.getHeight();
+            int cols = mazeGrid.getWidth();
             float centerX = mazeOffsetX + cols * cellSize / 2;
             float centerY = mazeOffsetY + rows * cellSize / 2;
             
@@ -745,9 +780,9 @@ public class GameView extends SurfaceView implements SurfaceHolder.Callback, Sen
             boolean lucidityIncreasing = newMazeIndex < currentMazeIndex;
             int rotationsNeeded = Math.abs(newMazeIndex - currentMazeIndex);
             
-            // Mettre à jour l'index et la grille
+            // Mettre à jour l'index et l'orientation de la grille (O(1), sans copie)
             currentMazeIndex = newMazeIndex;
-            mazeGrid = mazeConfigurations[currentMazeIndex];
+            mazeGrid.setRotation(currentMazeIndex);
             
             // Mettre à jour le gestionnaire de collisions
             if (collisionHandler != null) {
@@ -807,6 +842,9 @@ public class GameView extends SurfaceView implements SurfaceHolder.Callback, Sen
             if (!isPositionSafe(circleX, circleY)) {
                 findNearestSafePosition();
             }
+
+            // La rotation déplace la balle d'un coup : pas d'interpolation sur ce pas
+            snapInterpolation();
         }
     }
 
@@ -819,42 +857,19 @@ public class GameView extends SurfaceView implements SurfaceHolder.Callback, Sen
         int gridY = (int)((circleY - mazeOffsetY) / cellSize);
         
         // Limiter les indices dans les bornes de la grille
-        gridX = Math.max(0, Math.min(gridX, mazeGrid[0].length - 1));
-        gridY = Math.max(0, Math.min(gridY, mazeGrid.length - 1));
-        
-        // Si la position actuelle est déjà sûre, ne rien faire
-        if (mazeGrid[gridY][gridX] == 0) {
-            circleX = mazeOffsetX + (gridX + 0.5f) * cellSize;
-            circleY = mazeOffsetY + (gridY + 0.5f) * cellSize;
+        gridX = Math.max(0, Math.min(gridX, mazeGrid.getWidth() - 1));
+        gridY = Math.max(0, Math.min(gridY, mazeGrid.getHeight() - 1));
+        
+        // Cellule libre la plus proche, lue directement dans le champ de distance
+        int freeCell = distanceField.nearestFreeCell(gridX, gridY);
+        if (freeCell >= 0) {
+            int freeX = freeCell % mazeGrid.getWidth();
+            int freeY = freeCell / mazeGrid.getWidth();
+            circleX = mazeOffsetX + (freeX + 0.5f) * cellSize;
+            circleY = mazeOffsetY + (freeY + 0.5f) * cellSize;
             return;
         }
         
-        // Rechercher la position sûre la plus proche
-        int maxDistance = Math.max(mazeGrid.length, mazeGrid[0].length);
-        for (int distance = 1; distance < maxDistance; distance++) {
-            // Vérifier toutes les cellules à cette distance
-            for (int dx = -distance; dx <= distance; dx++) {
-                for (int dy = -distance; dy <= distance; dy++) {
-                    // Ne vérifier que les cellules sur le périmètre du carré
-                    if (Math.abs(dx) == distance || Math.abs(dy) == distance) {
-                        int checkX = gridX + dx;
-                        int checkY = gridY + dy;
-                        
-                        // Vérifier que la cellule est dans les limites
-                        if (checkX >= 0 && checkX < mazeGrid[0].length && 
-                            checkY >= 0 && checkY < mazeGrid.length) {
-                            // Si la cellule est un passage, l'utiliser
-                            if (mazeGrid[checkY][checkX] == 0) {
-                                circleX = mazeOffsetX + (checkX + 0.5f) * cellSize;
-                                circleY = mazeOffsetY + (checkY + 0.5f) * cellSize;
-                                return;
-                            }
-                        }
-                    }
-                }
-            }
-        }
-        
         // Si aucune position sûre n'est trouvée, placer la balle dans la première cellule libre
         placeBallInMaze();
     }
@@ -881,9 +896,7 @@ public class GameView extends SurfaceView implements SurfaceHolder.Callback, Sen
         int gridY = (int)((y - mazeOffsetY) / cellSize);
         
         // Vérifier si les indices sont valides et si la cellule est un passage
-        return gridX >= 0 && gridX < mazeGrid[0].length && 
-               gridY >= 0 && gridY < mazeGrid.length && 
-               mazeGrid[gridY][gridX] == 0;
+        return mazeGrid.contains(gridX, gridY) && !mazeGrid.isWall(gridX, gridY);
     }
 
     /**
@@ -914,8 +927,8 @@ public class GameView extends SurfaceView implements SurfaceHolder.Callback, Sen
      * Appelle l'activité Victory lorsque le joueur gagne
      */
     private void victory() {
-        // Arrêter le jeu
-        thread.setRunning(false);
+        // Arrêter le jeu (une seule fois)
+        if (!engine.stop()) return;
         
         // Lancer l'activité Victory
         android.content.Intent intent = new android.content.Intent(context, VictoryActivity.class);
@@ -960,6 +973,12 @@ public class GameView extends SurfaceView implements SurfaceHolder.Callback, Sen
      */
     private void togglePause() {
         isPaused = !isPaused;
+        if (!isPaused) {
+            inputRing.discardPending();
+            tiltIntegrator.reset();
+        }
+        // En pause, la boucle s'arrête après avoir affiché l'écran de pause
+        engine.setPaused(isPaused);
 
         // Si on entre en pause, sauvegarder la lucidité actuelle
         if (isPaused && context instanceof GameActivity) {
@@ -972,8 +991,8 @@ public class GameView extends SurfaceView implements SurfaceHolder.Callback, Sen
      * Renvoie au menu principal
      */
     private void returnToMainMenu() {
-        // Arrêter le thread du jeu
-        thread.setRunning(false);
+        // Arrêter la boucle de jeu
+        engine.stop();
 
         // Créer une intention pour démarrer l'activité principale
         Intent intent = new Intent(context, MainActivity.class);
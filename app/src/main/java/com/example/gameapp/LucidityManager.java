@@ -1,10 +1,13 @@
 package com.example.gameapp;
 
+import android.graphics.Bitmap;
 import android.graphics.Canvas;
 import android.graphics.Color;
 import android.graphics.Paint;
 import android.graphics.Path;
-import android.graphics.Matrix;
+
+import com.example.gameapp.utils.ControlTransform;
+import com.example.gameapp.utils.LucidityEffectPipeline;
 
 /**
  * Gère la lucidité et tous les effets associés au mode LSD
@@ -16,16 +19,40 @@ public class LucidityManager {
     // Taux de décroissance de la lucidité par frame
     private static final float LUCIDITY_DECAY = 0.0004f;
     
+    // Effets définis par leur courbe en fonction de la lucidité, précalculée en table.
+    // Stratégie qui évite les annulations : haute lucidité aucun effet, puis inversion de X,
+    // puis inversion de Y avec rotation partielle, enfin rotation complète sans inversion.
+    private final LucidityEffectPipeline effects = new LucidityEffectPipeline();
+    private final int invertXEffect = effects.addEffect(l -> l >= 0.6f && l < 0.8f ? 1f : 0f);
+    private final int invertYEffect = effects.addEffect(l -> l >= 0.3f && l < 0.6f ? 1f : 0f);
+    // Rotation des contrôles en degrés : 0° à 90° entre 60% et 30%, puis 180°
+    private final int rotationEffect = effects.addEffect(
+            l -> l < 0.3f ? 180.0f : l < 0.6f ? (0.6f - l) * 2.0f * 90.0f : 0.0f);
+    // Amplitude de l'ondulation (augmente avec la baisse de lucidité)
+    private final int waveEffect = effects.addEffect(l -> (1.0f - l) * 15.0f);
+    // Couleurs de la jauge, choisies par un effet appliqué par son consommateur (voir le constructeur)
+    private static final int[] GAUGE_COLORS = {Color.GREEN, Color.YELLOW, Color.RED};
+
     // Paramètres pour les effets
     private boolean invertXAxis = false;
     private boolean invertYAxis = false;
     private float controlRotation = 0.0f; // En degrés
     private static final float MAX_ROTATION = 180.0f;
+    // Inversion et rotation compilées en une matrice 2x2
+    private final ControlTransform controlTransform = new ControlTransform();
     
     // Paramètres pour l'ondulation
     private float waveAmplitude = 0.0f;
     private float waveFrequency = 0.1f;
     private float wavePhase = 0.0f;
+
+    // Maillage de déformation de l'ondulation : une seule colonne de quadrilatères
+    // (le décalage ne dépend que de y), une ligne tous les WAVE_MESH_STEP pixels
+    private static final float WAVE_MESH_STEP = 8f;
+    private float[] waveMesh;
+    private int waveMeshRows;
+    private int waveMeshWidth;
+    private int waveMeshHeight;
     
     // Peintres pour les effets visuels
     private Paint lucidityGaugePaint;
@@ -50,6 +77,9 @@ public class LucidityManager {
         // Initialiser les peintres
         lucidityGaugePaint = new Paint();
         lucidityGaugePaint.setColor(Color.GREEN);
+        // Couleur de la jauge : changée seulement quand la lucidité passe un seuil
+        effects.addEffect(l -> l > 0.7f ? 0 : l > 0.4f ? 1 : 2,
+                index -> lucidityGaugePaint.setColor(GAUGE_COLORS[(int) index]));
         
         lucidityGaugeBackgroundPaint = new Paint();
         lucidityGaugeBackgroundPaint.setColor(Color.DKGRAY);
@@ -77,97 +107,90 @@ public class LucidityManager {
     }
     
     /**
-     * Met à jour l'intensité des effets en fonction du niveau de lucidité
+     * Met à jour l'intensité des effets en fonction du niveau de lucidité.
+     * Les effets ne sont relus dans leurs tables que si la lucidité a changé de niveau.
      */
     private void updateEffectsIntensity() {
-        // Établir une stratégie d'effets qui évite les annulations
-        if (lucidity < 0.3f) {
-            // À très faible lucidité: rotation pure sans inversion
-            invertXAxis = false;
-            invertYAxis = false;
-            controlRotation = 180.0f; // Rotation complète
-        } else if (lucidity < 0.6f) {
-            // À lucidité moyenne-basse: inversion de Y et rotation partielle
-            invertXAxis = false;
-            invertYAxis = true;
-            controlRotation = (0.6f - lucidity) * 2.0f * 90.0f; // Rotation de 0° à 90°
-        } else if (lucidity < 0.8f) {
-            // À lucidité moyenne-haute: inversion de X seulement
-            invertXAxis = true;
-            invertYAxis = false;
-            controlRotation = 0.0f; // Pas de rotation
-        } else {
-            // À haute lucidité: aucun effet
-            invertXAxis = false;
-            invertYAxis = false;
-            controlRotation = 0.0f;
-        }
+        if (!effects.update(lucidity)) return;
+
+        invertXAxis = effects.isOn(invertXEffect);
+        invertYAxis = effects.isOn(invertYEffect);
+        controlRotation = effects.get(rotationEffect);
         
-        // Amplitude de l'ondulation (augmente avec la baisse de lucidité)
-        waveAmplitude = (1.0f - lucidity) * 15.0f;
+        // Recompiler la transformation des contrôles seulement si les effets ont changé
+        controlTransform.set(invertXAxis, invertYAxis, controlRotation);
         
-        // Mettre à jour la couleur de la jauge en fonction de la lucidité
-        if (lucidity > 0.7f) {
-            lucidityGaugePaint.setColor(Color.GREEN);
-        } else if (lucidity > 0.4f) {
-            lucidityGaugePaint.setColor(Color.YELLOW);
-        } else {
-            lucidityGaugePaint.setColor(Color.RED);
-        }
+        // Amplitude de l'ondulation (augmente avec la baisse de lucidité)
+        waveAmplitude = effects.get(waveEffect);
+    }
+    
+    /**
+     * Chaîne d'effets de lucidité, pour en ajouter de nouveaux avec leur consommateur
+     * (appelé seulement quand la lucidité change de niveau et que la valeur de l'effet change)
+     */
+    public LucidityEffectPipeline getEffects() {
+        return effects;
     }
     
     /**
-     * Applique les effets aux contrôles
+     * Applique les effets aux contrôles, sans allocation
      * @param accelerometerX Valeur X de l'accéléromètre
      * @param accelerometerY Valeur Y de l'accéléromètre
-     * @return Un tableau avec les valeurs modifiées [X, Y]
+     * @param out Tableau fourni par l'appelant, qui reçoit les valeurs modifiées [X, Y]
      */
-    public float[] applyControlEffects(float accelerometerX, float accelerometerY) {
-        // Inverser les axes si nécessaire
-        if (invertXAxis) accelerometerX = -accelerometerX;
-        if (invertYAxis) accelerometerY = -accelerometerY;
-        
-        // Appliquer la rotation des contrôles
-        if (controlRotation != 0) {
-            float radians = (float) Math.toRadians(controlRotation);
-            float cos = (float) Math.cos(radians);
-            float sin = (float) Math.sin(radians);
-            
-            float newX = accelerometerX * cos - accelerometerY * sin;
-            float newY = accelerometerX * sin + accelerometerY * cos;
-            
-            accelerometerX = newX;
-            accelerometerY = newY;
-        }
-        
-        return new float[] {accelerometerX, accelerometerY};
+    public void applyControlEffects(float accelerometerX, float accelerometerY, float[] out) {
+        controlTransform.apply(accelerometerX, accelerometerY, out);
     }
     
     /**
-     * Applique une transformation au canvas pour l'ondulation du labyrinthe
-     * @param canvas Canvas à transformer
-     * @param matrix Matrice pour appliquer l'ondulation
-     * @param x Coordonnée X
-     * @param y Coordonnée Y
-     * @param width Largeur de la cellule
-     * @param height Hauteur de la cellule
+     * Indique si l'ondulation du labyrinthe est visible
      */
-    public void applyWaveEffect(Canvas canvas, Matrix matrix, float x, float y, float width, float height) {
-        if (waveAmplitude > 0) {
-            // Réinitialiser la matrice
-            matrix.reset();
-            
-            // Calculer l'ondulation
-            float offsetX = (float) Math.sin((y + wavePhase) * waveFrequency) * waveAmplitude;
-            
-            // Appliquer la translation
-            matrix.postTranslate(offsetX, 0);
-            
-            // Appliquer la matrice au canvas
-            canvas.setMatrix(matrix);
-        }
+    public boolean hasWaveEffect() {
+        return waveAmplitude > 0;
+    }
+
+    /**
+     * Décalage horizontal de l'ondulation pour une ligne du labyrinthe
+     * @param y Coordonnée Y de la ligne à l'écran
+     * @return Décalage en pixels
+     */
+    public float getWaveOffset(float y) {
+        return (float) Math.sin((y + wavePhase) * waveFrequency) * waveAmplitude;
     }
     
+    /**
+     * Dessine une image (le calque du labyrinthe) déformée par l'ondulation, en un seul appel.
+     * Les sommets du maillage sont précalculés pour la taille de l'image ; à chaque frame
+     * seul leur décalage horizontal est mis à jour à partir de la phase et de l'amplitude.
+     * @param canvas Canvas sur lequel dessiner
+     * @param layer Image à déformer
+     * @param left Position X de l'image à l'écran
+     * @param top Position Y de l'image à l'écran
+     */
+    public void drawWithWave(Canvas canvas, Bitmap layer, float left, float top) {
+        int width = layer.getWidth();
+        int height = layer.getHeight();
+        if (waveMesh == null || width != waveMeshWidth || height != waveMeshHeight) {
+            waveMeshWidth = width;
+            waveMeshHeight = height;
+            waveMeshRows = Math.max(1, (int) Math.ceil(height / WAVE_MESH_STEP));
+            waveMesh = new float[(waveMeshRows + 1) * 2 * 2];
+        }
+
+        for (int row = 0; row <= waveMeshRows; row++) {
+            float y = top + Math.min(height, row * WAVE_MESH_STEP);
+            float x = left + getWaveOffset(y);
+            int vertex = row * 4;
+            // Sommet gauche puis sommet droit de la ligne
+            waveMesh[vertex] = x;
+            waveMesh[vertex + 1] = y;
+            waveMesh[vertex + 2] = x + width;
+            waveMesh[vertex + 3] = y;
+        }
+
+        canvas.drawBitmapMesh(layer, 1, waveMeshRows, waveMesh, 0, null, 0, null);
+    }
+
     /**
      * Dessine la jauge de lucidité
      * @param canvas Canvas sur lequel dessiner
@@ -19,6 +19,9 @@ public class MainActivity extends Activity {
         super.onCreate(savedInstanceState);
         setContentView(R.layout.activity_main);
 
+        // Préparer les labyrinthes en arrière-plan pendant que le menu est affiché
+        GameView.prefetchMazes();
+
         // Configuration du bouton pour lancer le jeu
         Button startGameButton = findViewById(R.id.buttonStartGame);
 
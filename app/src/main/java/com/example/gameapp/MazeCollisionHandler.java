@@ -1,25 +1,50 @@
 package com.example.gameapp;
 
+import com.example.gameapp.utils.MazeView;
+import com.example.gameapp.utils.RotatedMazeView;
+import com.example.gameapp.utils.WallRectangles;
+
 /**
  * Classe qui gère les collisions entre une balle et un labyrinthe représenté par une grille
  */
 public class MazeCollisionHandler {
-    private int[][] mazeGrid;      // La grille du labyrinthe (1=mur, 0=passage)
+    private MazeView mazeGrid;      // La grille du labyrinthe (1=mur, 0=passage)
     private float cellSize;        // Taille d'une cellule en pixels
     private float mazeOffsetX = 0;
     private float mazeOffsetY = 0;
     private int rows, cols;        // Dimensions de la grille
+    private WallRectangles walls;  // Murs fusionnés de la grille d'origine (optionnels)
+    
+    // Nombre maximum de rebonds traités pendant un même déplacement
+    private static final int MAX_SWEEP_ITERATIONS = 4;
+    // Distance (en pixels) gardée entre la balle et le mur après un impact
+    private static final float CONTACT_SKIN = 0.01f;
+    // Vitesse normale (pixels par pas) en dessous de laquelle un contact ne rebondit plus
+    private static final float RESTING_CONTACT_SPEED = 0.5f;
+    // Nombre de passes pour calculer la translation minimale entre plusieurs murs
+    private static final int MTV_PASSES = 3;
+    // Nombre maximum de murs en contact (voisinage 3x3)
+    private static final int MAX_CONTACTS = 9;
+    // Nombre maximum de rectangles candidats d'une requête (au-delà, test cellule par cellule)
+    private static final int MAX_CANDIDATES = 64;
+    
+    // Rectangles candidats de la dernière requête, en cellules de la vue (bornes droite et basse exclues)
+    private final int[] candidates = new int[MAX_CANDIDATES];
+    private final int[] candidateLeft = new int[MAX_CANDIDATES];
+    private final int[] candidateTop = new int[MAX_CANDIDATES];
+    private final int[] candidateRight = new int[MAX_CANDIDATES];
+    private final int[] candidateBottom = new int[MAX_CANDIDATES];
     
     /**
      * Constructeur du gestionnaire de collisions
      * @param mazeGrid La grille du labyrinthe (1=mur, 0=passage)
      * @param cellSize Taille d'une cellule en pixels
      */
-    public MazeCollisionHandler(int[][] mazeGrid, float cellSize) {
+    public MazeCollisionHandler(MazeView mazeGrid, float cellSize) {
         this.mazeGrid = mazeGrid;
         this.cellSize = cellSize;
-        this.rows = mazeGrid.length;
-        this.cols = mazeGrid[0].length;
+        this.rows = mazeGrid.getHeight();
+        this.cols = mazeGrid.getWidth();
     }
     
     /**
@@ -36,10 +61,19 @@ public class MazeCollisionHandler {
      * Met à jour la grille du labyrinthe (à utiliser si celle-ci change)
      * @param mazeGrid La nouvelle grille du labyrinthe
      */
-    public void updateMazeGrid(int[][] mazeGrid) {
+    public void updateMazeGrid(MazeView mazeGrid) {
         this.mazeGrid = mazeGrid;
-        this.rows = mazeGrid.length;
-        this.cols = mazeGrid[0].length;
+        this.rows = mazeGrid.getHeight();
+        this.cols = mazeGrid.getWidth();
+    }
+    
+    /**
+     * Définit les murs fusionnés du labyrinthe, utilisés comme phase large : seuls les
+     * rectangles de l'index qui touchent la zone de la balle sont testés, au lieu de chaque cellule
+     * @param walls Rectangles de la grille d'origine (celle de la vue pivotée), ou null
+     */
+    public void setWallRectangles(WallRectangles walls) {
+        this.walls = walls;
     }
     
     /**
@@ -52,64 +86,392 @@ public class MazeCollisionHandler {
      */
     public CollisionInfo checkCollision(float ballX, float ballY, float ballRadius) {
         CollisionInfo info = new CollisionInfo();
+        checkCollision(ballX, ballY, ballRadius, info);
+        return info;
+    }
+    
+    /**
+     * Vérifie si la balle est en collision avec un mur du labyrinthe, sans allocation :
+     * le résultat est écrit dans un objet fourni (et réutilisé) par l'appelant.
+     * Tous les murs en contact sont pris en compte : la normale et la pénétration
+     * décrivent le vecteur de translation minimal qui sort la balle de tous les murs
+     * à la fois (utile dans les coins), et chaque contact est conservé pour le rebond.
+     * @param ballX Position X du centre de la balle
+     * @param ballY Position Y du centre de la balle
+     * @param ballRadius Rayon de la balle
+     * @param info Objet à remplir avec les informations de collision
+     * @return true s'il y a collision
+     */
+    public boolean checkCollision(float ballX, float ballY, float ballRadius, CollisionInfo info) {
+        info.reset();
         
         // Convertir les coordonnées de la balle en indices de la grille
         int gridX = (int)((ballX - mazeOffsetX) / cellSize);
         int gridY = (int)((ballY - mazeOffsetY) / cellSize);
         
-        // Vérifier les 9 cellules autour de la position actuelle de la balle
-        for (int dy = -1; dy <= 1; dy++) {
-            for (int dx = -1; dx <= 1; dx++) {
-                int checkX = gridX + dx;
-                int checkY = gridY + dy;
-                
-                // Vérifier que les indices sont valides
-                if (checkX >= 0 && checkX < cols && 
-                    checkY >= 0 && checkY < rows) {
+        // Rassembler les contacts dans les 9 cellules autour de la balle
+        int found = gatherWalls(gridX - 1, gridY - 1, gridX + 1, gridY + 1);
+        if (found >= 0) {
+            // Un contact par mur fusionné (au plus 9 rectangles touchent ces cellules)
+            for (int i = 0; i < found; i++) {
+                addContact(mazeOffsetX + candidateLeft[i] * cellSize, mazeOffsetY + candidateTop[i] * cellSize,
+                        mazeOffsetX + candidateRight[i] * cellSize, mazeOffsetY + candidateBottom[i] * cellSize,
+                        ballX, ballY, ballRadius, info);
+            }
+        } else {
+            for (int dy = -1; dy <= 1; dy++) {
+                for (int dx = -1; dx <= 1; dx++) {
+                    int checkX = gridX + dx;
+                    int checkY = gridY + dy;
                     
-                    // Si la cellule est un mur, vérifier la collision
-                    if (mazeGrid[checkY][checkX] == 1) {
-                        // Coordonnées du coin supérieur gauche du mur
+                    // Vérifier que les indices sont valides et que la cellule est un mur
+                    if (checkX >= 0 && checkX < cols && 
+                        checkY >= 0 && checkY < rows &&
+                        mazeGrid.isWall(checkX, checkY)) {
                         float wallLeft = mazeOffsetX + checkX * cellSize;
                         float wallTop = mazeOffsetY + checkY * cellSize;
-                        
-                        // Coordonnées du coin inférieur droit du mur
-                        float wallRight = wallLeft + cellSize;
-                        float wallBottom = wallTop + cellSize;
-                        
-                        // Trouver le point du mur le plus proche du centre de la balle
-                        float closestX = Math.max(wallLeft, Math.min(ballX, wallRight));
-                        float closestY = Math.max(wallTop, Math.min(ballY, wallBottom));
-                        
-                        // Calculer la distance entre ce point et le centre de la balle
-                        float distanceX = ballX - closestX;
-                        float distanceY = ballY - closestY;
-                        float distanceSquared = distanceX * distanceX + distanceY * distanceY;
-                        
-                        // S'il y a collision
-                        if (distanceSquared < ballRadius * ballRadius) {
-                            // Calcul de la normale et de la pénétration
-                            float distance = (float) Math.sqrt(distanceSquared);
-                            info.hasCollided = true;
-                            
-                            // Éviter la division par zéro
-                            info.normalX = (distance > 0.0001f) ? distanceX / distance : 0;
-                            info.normalY = (distance > 0.0001f) ? distanceY / distance : 0;
-                            
-                            info.penetration = ballRadius - distance;
-                            info.wallX = closestX;
-                            info.wallY = closestY;
-                            
-                            return info; // Retourner dès la première collision
-                        }
+                        addContact(wallLeft, wallTop, wallLeft + cellSize, wallTop + cellSize,
+                                ballX, ballY, ballRadius, info);
                     }
                 }
             }
         }
         
-        return info; // Pas de collision
+        if (info.contactCount == 0) {
+            return false; // Pas de collision
+        }
+        info.hasCollided = true;
+        
+        // Vecteur de translation minimal : on repousse la balle hors de chaque mur
+        // en recalculant les contacts depuis la position corrigée (quelques passes suffisent)
+        float resolvedX = ballX;
+        float resolvedY = ballY;
+        for (int pass = 0; pass < MTV_PASSES; pass++) {
+            boolean moved = false;
+            for (int i = 0; i < info.contactCount; i++) {
+                float closestX = Math.max(info.contactLeft[i], Math.min(resolvedX, info.contactRight[i]));
+                float closestY = Math.max(info.contactTop[i], Math.min(resolvedY, info.contactBottom[i]));
+                float distanceX = resolvedX - closestX;
+                float distanceY = resolvedY - closestY;
+                float distanceSquared = distanceX * distanceX + distanceY * distanceY;
+                
+                if (distanceSquared < ballRadius * ballRadius && distanceSquared > 1e-8f) {
+                    float distance = (float) Math.sqrt(distanceSquared);
+                    float push = ballRadius - distance;
+                    resolvedX += distanceX / distance * push;
+                    resolvedY += distanceY / distance * push;
+                    moved = true;
+                }
+            }
+            if (!moved) break;
+        }
+        
+        float mtvX = resolvedX - ballX;
+        float mtvY = resolvedY - ballY;
+        float length = (float) Math.sqrt(mtvX * mtvX + mtvY * mtvY);
+        
+        // Éviter la division par zéro (centre de la balle dans un mur)
+        info.normalX = (length > 0.0001f) ? mtvX / length : 0;
+        info.normalY = (length > 0.0001f) ? mtvY / length : 0;
+        info.penetration = length;
+        
+        return true;
     }
     
+    /**
+     * Ajoute le mur (rectangle en pixels) aux contacts s'il touche la balle.
+     * Le premier contact (le plus profond) renseigne aussi le point de contact.
+     */
+    private static void addContact(float wallLeft, float wallTop, float wallRight, float wallBottom,
+                                   float ballX, float ballY, float ballRadius, CollisionInfo info) {
+        // Trouver le point du mur le plus proche du centre de la balle
+        float closestX = Math.max(wallLeft, Math.min(ballX, wallRight));
+        float closestY = Math.max(wallTop, Math.min(ballY, wallBottom));
+        
+        // Calculer la distance entre ce point et le centre de la balle
+        float distanceX = ballX - closestX;
+        float distanceY = ballY - closestY;
+        float distanceSquared = distanceX * distanceX + distanceY * distanceY;
+        if (distanceSquared >= ballRadius * ballRadius) return;
+        
+        float distance = (float) Math.sqrt(distanceSquared);
+        int index = info.contactCount++;
+        info.contactLeft[index] = wallLeft;
+        info.contactTop[index] = wallTop;
+        info.contactRight[index] = wallRight;
+        info.contactBottom[index] = wallBottom;
+        info.contactNormalX[index] = (distance > 0.0001f) ? distanceX / distance : 0;
+        info.contactNormalY[index] = (distance > 0.0001f) ? distanceY / distance : 0;
+        
+        float penetration = ballRadius - distance;
+        if (index == 0 || penetration > info.contactPenetration) {
+            info.contactPenetration = penetration;
+            info.wallX = closestX;
+            info.wallY = closestY;
+        }
+    }
+
+    /**
+     * Détection continue : cherche le premier mur touché par la balle lorsqu'elle
+     * se déplace de (moveX, moveY) depuis (startX, startY). Les cellules traversées
+     * sont parcourues dans l'ordre (DDA), ce qui évite de traverser un mur fin
+     * quelle que soit la vitesse. Avec les murs fusionnés, seuls les rectangles
+     * qui touchent la boîte englobante du déplacement sont testés.
+     * Les murs déjà en contact au départ sont ignorés (voir checkCollision).
+     * @param startX Position X de départ du centre de la balle
+     * @param startY Position Y de départ du centre de la balle
+     * @param moveX Déplacement horizontal
+     * @param moveY Déplacement vertical
+     * @param ballRadius Rayon de la balle
+     * @param info Objet à remplir : time (fraction du déplacement avant l'impact),
+     *             normale et point de contact sur le mur
+     * @return true si un mur est touché pendant le déplacement
+     */
+    public boolean sweepCollision(float startX, float startY, float moveX, float moveY,
+                                  float ballRadius, CollisionInfo info) {
+        info.reset();
+        if (moveX == 0 && moveY == 0) return false;
+
+        // Phase large : murs fusionnés qui touchent la boîte englobante du déplacement
+        int found = gatherWalls(
+                (int) Math.floor((Math.min(startX, startX + moveX) - ballRadius - mazeOffsetX) / cellSize),
+                (int) Math.floor((Math.min(startY, startY + moveY) - ballRadius - mazeOffsetY) / cellSize),
+                (int) Math.floor((Math.max(startX, startX + moveX) + ballRadius - mazeOffsetX) / cellSize),
+                (int) Math.floor((Math.max(startY, startY + moveY) + ballRadius - mazeOffsetY) / cellSize));
+        if (found >= 0) {
+            for (int i = 0; i < found; i++) {
+                sweepWall(mazeOffsetX + candidateLeft[i] * cellSize, mazeOffsetY + candidateTop[i] * cellSize,
+                        mazeOffsetX + candidateRight[i] * cellSize, mazeOffsetY + candidateBottom[i] * cellSize,
+                        startX, startY, moveX, moveY, ballRadius, info);
+            }
+            return info.hasCollided;
+        }
+
+        // Trajectoire exprimée en cellules
+        float gridX = (startX - mazeOffsetX) / cellSize;
+        float gridY = (startY - mazeOffsetY) / cellSize;
+        float gridMoveX = moveX / cellSize;
+        float gridMoveY = moveY / cellSize;
+
+        int cellX = (int) Math.floor(gridX);
+        int cellY = (int) Math.floor(gridY);
+        int lastCellX = (int) Math.floor(gridX + gridMoveX);
+        int lastCellY = (int) Math.floor(gridY + gridMoveY);
+
+        int stepX = gridMoveX > 0 ? 1 : -1;
+        int stepY = gridMoveY > 0 ? 1 : -1;
+
+        // Instants (fraction du déplacement) du prochain changement de colonne / ligne
+        float tDeltaX = gridMoveX != 0 ? Math.abs(1f / gridMoveX) : Float.POSITIVE_INFINITY;
+        float tDeltaY = gridMoveY != 0 ? Math.abs(1f / gridMoveY) : Float.POSITIVE_INFINITY;
+        float tMaxX = gridMoveX > 0 ? (cellX + 1 - gridX) / gridMoveX
+                : gridMoveX < 0 ? (gridX - cellX) / -gridMoveX : Float.POSITIVE_INFINITY;
+        float tMaxY = gridMoveY > 0 ? (cellY + 1 - gridY) / gridMoveY
+                : gridMoveY < 0 ? (gridY - cellY) / -gridMoveY : Float.POSITIVE_INFINITY;
+
+        // Nombre de cellules autour de la trajectoire que la balle peut toucher
+        int reach = (int) Math.ceil(ballRadius / cellSize);
+        int cellsToVisit = Math.abs(lastCellX - cellX) + Math.abs(lastCellY - cellY);
+        float cellEntryTime = 0;
+
+        // Une cellule de marge couvre les arrondis du calcul flottant en fin de parcours
+        for (int i = 0; i <= cellsToVisit + 1 && cellEntryTime <= 1; i++) {
+            // Un impact plus proche a déjà été trouvé : inutile d'aller plus loin
+            if (info.hasCollided && cellEntryTime > info.time) break;
+
+            int minX = Math.max(0, cellX - reach);
+            int maxX = Math.min(cols - 1, cellX + reach);
+            int minY = Math.max(0, cellY - reach);
+            int maxY = Math.min(rows - 1, cellY + reach);
+            for (int y = minY; y <= maxY; y++) {
+                for (int x = minX; x <= maxX; x++) {
+                    if (mazeGrid.isWall(x, y)) {
+                        float wallLeft = mazeOffsetX + x * cellSize;
+                        float wallTop = mazeOffsetY + y * cellSize;
+                        sweepWall(wallLeft, wallTop, wallLeft + cellSize, wallTop + cellSize,
+                                startX, startY, moveX, moveY, ballRadius, info);
+                    }
+                }
+            }
+
+            // Passer à la cellule suivante le long de la trajectoire
+            if (tMaxX < tMaxY) {
+                cellEntryTime = tMaxX;
+                cellX += stepX;
+                tMaxX += tDeltaX;
+            } else {
+                cellEntryTime = tMaxY;
+                cellY += stepY;
+                tMaxY += tDeltaY;
+            }
+        }
+
+        return info.hasCollided;
+    }
+
+    /**
+     * Cherche dans l'index les murs fusionnés qui touchent la zone de cellules [minX, maxX] x [minY, maxY]
+     * de la vue, et les range (en cellules de la vue) dans les tableaux candidate*.
+     * @return Nombre de rectangles trouvés, ou -1 si l'index ne peut pas servir
+     *         (absent, d'une autre grille, ou trop de rectangles) : tester alors cellule par cellule
+     */
+    private int gatherWalls(int minX, int minY, int maxX, int maxY) {
+        if (walls == null) return -1;
+        RotatedMazeView rotated = mazeGrid instanceof RotatedMazeView ? (RotatedMazeView) mazeGrid : null;
+        if (rotated != null ? rotated.getBase() != walls.getMaze() : mazeGrid != walls.getMaze()) return -1;
+
+        // Zone exprimée dans la grille d'origine (deux coins opposés suffisent pour un quart de tour)
+        int found;
+        if (rotated == null) {
+            found = walls.query(minX, minY, maxX, maxY, candidates);
+        } else {
+            int ax = rotated.toBaseX(minX, minY);
+            int ay = rotated.toBaseY(minX, minY);
+            int bx = rotated.toBaseX(maxX, maxY);
+            int by = rotated.toBaseY(maxX, maxY);
+            found = walls.query(Math.min(ax, bx), Math.min(ay, by), Math.max(ax, bx), Math.max(ay, by), candidates);
+        }
+        if (found == MAX_CANDIDATES) return -1;
+
+        for (int i = 0; i < found; i++) {
+            int index = candidates[i];
+            if (rotated == null) {
+                candidateLeft[i] = walls.getLeft(index);
+                candidateTop[i] = walls.getTop(index);
+                candidateRight[i] = walls.getRight(index);
+                candidateBottom[i] = walls.getBottom(index);
+            } else {
+                // Ramener les deux coins (inclus) dans la vue
+                int left = walls.getLeft(index);
+                int top = walls.getTop(index);
+                int right = walls.getRight(index) - 1;
+                int bottom = walls.getBottom(index) - 1;
+                int ax = rotated.fromBaseX(left, top);
+                int ay = rotated.fromBaseY(left, top);
+                int bx = rotated.fromBaseX(right, bottom);
+                int by = rotated.fromBaseY(right, bottom);
+                candidateLeft[i] = Math.min(ax, bx);
+                candidateTop[i] = Math.min(ay, by);
+                candidateRight[i] = Math.max(ax, bx) + 1;
+                candidateBottom[i] = Math.max(ay, by) + 1;
+            }
+        }
+        return found;
+    }
+
+    /**
+     * Déplace la balle de sa vitesse en s'arrêtant sur les murs rencontrés :
+     * à chaque impact la balle est placée au contact, la vitesse est réfléchie
+     * et le reste du déplacement se poursuit dans la nouvelle direction.
+     * @param position Tableau [x, y] de la balle, modifié en place
+     * @param velocity Tableau [vx, vy] (déplacement par pas), modifié en place
+     * @param ballRadius Rayon de la balle
+     * @param dampingFactor Facteur d'amortissement pour le rebond
+     * @param info Objet réutilisé pour les calculs (contient le dernier impact)
+     * @return true si la balle a touché au moins un mur
+     */
+    public boolean moveAndCollide(float[] position, float[] velocity, float ballRadius,
+                                  float dampingFactor, CollisionInfo info) {
+        boolean collided = false;
+        float remaining = 1f;
+
+        for (int i = 0; i < MAX_SWEEP_ITERATIONS && remaining > 0; i++) {
+            float moveX = velocity[0] * remaining;
+            float moveY = velocity[1] * remaining;
+
+            if (!sweepCollision(position[0], position[1], moveX, moveY, ballRadius, info)) {
+                position[0] += moveX;
+                position[1] += moveY;
+                return collided;
+            }
+
+            // Avancer jusqu'au contact puis s'écarter légèrement du mur le long de la normale,
+            // pour que le prochain balayage parte bien de l'extérieur du mur
+            position[0] += moveX * info.time + info.normalX * CONTACT_SKIN;
+            position[1] += moveY * info.time + info.normalY * CONTACT_SKIN;
+
+            // Rebondir et consommer la part du déplacement effectuée
+            resolveCollision(info, velocity, dampingFactor);
+            remaining *= 1f - info.time;
+            collided = true;
+        }
+
+        return collided;
+    }
+
+    /**
+     * Instant du premier contact entre la balle en mouvement et un mur rectangulaire.
+     * La forme balayée est le rectangle élargi du rayon (4 faces) aux coins arrondis
+     * (4 cercles). Met à jour info si l'impact est plus proche que celui déjà trouvé.
+     */
+    private static void sweepWall(float left, float top, float right, float bottom,
+                                  float startX, float startY, float moveX, float moveY,
+                                  float radius, CollisionInfo info) {
+        // Faces verticales
+        if (moveX > 0 && startX <= left - radius) {
+            float t = (left - radius - startX) / moveX;
+            float y = startY + moveY * t;
+            if (y >= top && y <= bottom) keepEarliest(info, t, -1, 0, left, y);
+        } else if (moveX < 0 && startX >= right + radius) {
+            float t = (right + radius - startX) / moveX;
+            float y = startY + moveY * t;
+            if (y >= top && y <= bottom) keepEarliest(info, t, 1, 0, right, y);
+        }
+
+        // Faces horizontales
+        if (moveY > 0 && startY <= top - radius) {
+            float t = (top - radius - startY) / moveY;
+            float x = startX + moveX * t;
+            if (x >= left && x <= right) keepEarliest(info, t, 0, -1, x, top);
+        } else if (moveY < 0 && startY >= bottom + radius) {
+            float t = (bottom + radius - startY) / moveY;
+            float x = startX + moveX * t;
+            if (x >= left && x <= right) keepEarliest(info, t, 0, 1, x, bottom);
+        }
+
+        // Coins
+        sweepCorner(left, top, startX, startY, moveX, moveY, radius, info);
+        sweepCorner(right, top, startX, startY, moveX, moveY, radius, info);
+        sweepCorner(left, bottom, startX, startY, moveX, moveY, radius, info);
+        sweepCorner(right, bottom, startX, startY, moveX, moveY, radius, info);
+    }
+
+    /**
+     * Intersection entre la trajectoire du centre et le cercle de rayon radius autour d'un coin
+     */
+    private static void sweepCorner(float cornerX, float cornerY,
+                                    float startX, float startY, float moveX, float moveY,
+                                    float radius, CollisionInfo info) {
+        float fx = startX - cornerX;
+        float fy = startY - cornerY;
+        float c = fx * fx + fy * fy - radius * radius;
+        float b = fx * moveX + fy * moveY;
+
+        // Déjà en contact, ou trajectoire qui s'éloigne du coin
+        if (c <= 0 || b >= 0) return;
+
+        float a = moveX * moveX + moveY * moveY;
+        float discriminant = b * b - a * c;
+        if (discriminant < 0) return;
+
+        float t = (-b - (float) Math.sqrt(discriminant)) / a;
+        float normalX = (fx + moveX * t) / radius;
+        float normalY = (fy + moveY * t) / radius;
+        keepEarliest(info, t, normalX, normalY, cornerX, cornerY);
+    }
+
+    private static void keepEarliest(CollisionInfo info, float t, float normalX, float normalY,
+                                     float wallX, float wallY) {
+        if (t < 0 || t > 1 || (info.hasCollided && t >= info.time)) return;
+        info.hasCollided = true;
+        info.time = t;
+        info.normalX = normalX;
+        info.normalY = normalY;
+        info.penetration = 0;
+        info.wallX = wallX;
+        info.wallY = wallY;
+    }
+
     /**
      * Calcule la nouvelle vitesse après une collision
      * @param collision Les informations de collision
@@ -119,15 +481,39 @@ public class MazeCollisionHandler {
     public void resolveCollision(CollisionInfo collision, float[] velocity, float dampingFactor) {
         if (!collision.hasCollided) return;
         
+        if (collision.contactCount == 0) {
+            // Impact unique (détection continue)
+            reflect(collision.normalX, collision.normalY, velocity, dampingFactor);
+            return;
+        }
+        
+        // Rebondir sur chaque mur en contact (deux murs perpendiculaires dans un coin)
+        for (int i = 0; i < collision.contactCount; i++) {
+            reflect(collision.contactNormalX[i], collision.contactNormalY[i], velocity, dampingFactor);
+        }
+    }
+    
+    /**
+     * Réfléchit la vitesse par rapport à une normale de mur
+     */
+    private static void reflect(float normalX, float normalY, float[] velocity, float dampingFactor) {
         // Calculer le produit scalaire entre la vélocité et la normale
-        float dotProduct = velocity[0] * collision.normalX + velocity[1] * collision.normalY;
+        float dotProduct = velocity[0] * normalX + velocity[1] * normalY;
         
         // Si la balle s'éloigne déjà du mur, ne pas appliquer de rebond
-        if (dotProduct > 0) return;
+        if (dotProduct >= 0) return;
+        
+        if (-dotProduct < RESTING_CONTACT_SPEED) {
+            // Contact au repos : annuler la composante normale au lieu de rebondir,
+            // sinon la balle oscille indéfiniment contre le mur
+            velocity[0] -= dotProduct * normalX;
+            velocity[1] -= dotProduct * normalY;
+            return;
+        }
         
         // Calculer la vélocité de rebond (réflexion)
-        velocity[0] = velocity[0] - 2 * dotProduct * collision.normalX * dampingFactor;
-        velocity[1] = velocity[1] - 2 * dotProduct * collision.normalY * dampingFactor;
+        velocity[0] = velocity[0] - 2 * dotProduct * normalX * dampingFactor;
+        velocity[1] = velocity[1] - 2 * dotProduct * normalY * dampingFactor;
     }
     
     /**
@@ -140,5 +526,31 @@ public class MazeCollisionHandler {
         public float penetration = 0;
         public float wallX = 0;
         public float wallY = 0;
+        public float time = 1;         // Fraction du déplacement avant l'impact (détection continue)
+        
+        // Murs en contact (au plus les 9 cellules autour de la balle), rectangles en pixels
+        public int contactCount = 0;
+        public float contactPenetration = 0; // Pénétration du contact le plus profond
+        public final float[] contactLeft = new float[MAX_CONTACTS];
+        public final float[] contactTop = new float[MAX_CONTACTS];
+        public final float[] contactRight = new float[MAX_CONTACTS];
+        public final float[] contactBottom = new float[MAX_CONTACTS];
+        public final float[] contactNormalX = new float[MAX_CONTACTS];
+        public final float[] contactNormalY = new float[MAX_CONTACTS];
+        
+        /**
+         * Remet l'objet dans l'état "pas de collision" pour être réutilisé
+         */
+        public void reset() {
+            hasCollided = false;
+            normalX = 0;
+            normalY = 0;
+            penetration = 0;
+            wallX = 0;
+            wallY = 0;
+            time = 1;
+            contactCount = 0;
+            contactPenetration = 0;
+        }
     }
 } 
\ No newline at end of file
@@ -0,0 +1,114 @@
+package com.example.gameapp;
+
+import android.graphics.Bitmap;
+import android.graphics.BitmapShader;
+import android.graphics.Canvas;
+import android.graphics.Paint;
+import android.graphics.Shader;
+
+import com.example.gameapp.utils.RotatedMazeView;
+import com.example.gameapp.utils.WallRectangles;
+
+/**
+ * Calques pré-rendus du labyrinthe (murs + sortie), un par orientation.
+ * Le labyrinthe étant statique, il est dessiné une seule fois dans une image hors écran,
+ * puis recopié en un seul appel à chaque frame : le coût d'affichage ne dépend plus
+ * du nombre de cellules. Les calques sont créés à la demande et invalidés seulement
+ * quand le labyrinthe, la taille des cellules ou la texture changent.
+ * Les murs sont dessinés par rectangles fusionnés (texture répétée), pas cellule par cellule.
+ */
+public class MazeLayerCache {
+    private static final int ORIENTATIONS = 4;
+
+    private final Bitmap[] layers = new Bitmap[ORIENTATIONS];
+    // Cellule de sortie dessinée dans chaque calque (index y * largeur + x de la vue)
+    private final int[] layerExits = new int[ORIENTATIONS];
+
+    private final Paint wallPaint;
+    private final Paint exitPaint;
+
+    private WallRectangles walls;
+    private float cellSize;
+    private Bitmap wallTexture;
+    private Paint texturePaint; // Texture des murs répétée sur chaque rectangle
+
+    /**
+     * @param wallPaint Pinceau des murs quand aucune texture n'est disponible
+     * @param exitPaint Pinceau de la sortie
+     */
+    public MazeLayerCache(Paint wallPaint, Paint exitPaint) {
+        this.wallPaint = wallPaint;
+        this.exitPaint = exitPaint;
+    }
+
+    /**
+     * Oublie les calques si le labyrinthe, la taille des cellules ou la texture ont changé
+     */
+    public void invalidate(WallRectangles walls, float cellSize, Bitmap wallTexture) {
+        if (walls == this.walls && cellSize == this.cellSize && wallTexture == this.wallTexture) return;
+        this.walls = walls;
+        this.cellSize = cellSize;
+        if (wallTexture != this.wallTexture) {
+            this.wallTexture = wallTexture;
+            texturePaint = null;
+            if (wallTexture != null) {
+                texturePaint = new Paint();
+                texturePaint.setShader(new BitmapShader(wallTexture, Shader.TileMode.REPEAT, Shader.TileMode.REPEAT));
+            }
+        }
+        // Les anciens calques ne sont pas recyclés : le thread de rendu peut encore les dessiner
+        for (int i = 0; i < ORIENTATIONS; i++) {
+            layers[i] = null;
+        }
+    }
+
+    /**
+     * Calque du labyrinthe dans l'orientation courante de la vue, rendu au premier appel
+     * @param exitX Colonne de la sortie dans la vue
+     * @param exitY Ligne de la sortie dans la vue
+     * @return Image de view.getWidth() x view.getHeight() cellules, null si la taille est inconnue
+     */
+    public Bitmap getLayer(RotatedMazeView view, int exitX, int exitY) {
+        if (walls == null || view.getBase() != walls.getMaze() || cellSize <= 0) return null;
+
+        int rotation = view.getRotation();
+        int exit = exitY * view.getWidth() + exitX;
+        if (layers[rotation] == null || layerExits[rotation] != exit) {
+            layers[rotation] = render(view, exitX, exitY);
+            layerExits[rotation] = exit;
+        }
+        return layers[rotation];
+    }
+
+    private Bitmap render(RotatedMazeView view, int exitX, int exitY) {
+        int width = (int) Math.ceil(view.getWidth() * cellSize);
+        int height = (int) Math.ceil(view.getHeight() * cellSize);
+        Bitmap layer = Bitmap.createBitmap(width, height, Bitmap.Config.ARGB_8888);
+        Canvas canvas = new Canvas(layer);
+
+        Paint paint = texturePaint != null ? texturePaint : wallPaint;
+        for (int i = 0; i < walls.getCount(); i++) {
+            // Un rectangle de la grille reste un rectangle dans la vue : passer ses deux coins opposés
+            int baseLeft = walls.getLeft(i);
+            int baseTop = walls.getTop(i);
+            int baseRight = walls.getRight(i) - 1;
+            int baseBottom = walls.getBottom(i) - 1;
+            int x1 = view.fromBaseX(baseLeft, baseTop);
+            int y1 = view.fromBaseY(baseLeft, baseTop);
+            int x2 = view.fromBaseX(baseRight, baseBottom);
+            int y2 = view.fromBaseY(baseRight, baseBottom);
+
+            canvas.drawRect(
+                    Math.min(x1, x2) * cellSize,
+                    Math.min(y1, y2) * cellSize,
+                    (Math.max(x1, x2) + 1) * cellSize,
+                    (Math.max(y1, y2) + 1) * cellSize,
+                    paint);
+        }
+
+        float left = exitX * cellSize;
+        float top = exitY * cellSize;
+        canvas.drawRect(left, top, left + cellSize, top + cellSize, exitPaint);
+        return layer;
+    }
+}
@@ -0,0 +1,42 @@
+package com.example.gameapp.utils;
+
+/**
+ * Conversion des axes de l'accéléromètre (repère de l'appareil) vers le repère de l'écran,
+ * selon la rotation de l'affichage (valeurs Surface.ROTATION_0 à ROTATION_270).
+ * Chaque rotation correspond à une petite matrice 2x2 précalculée : la conversion d'une mesure
+ * se fait sans branchement ni appel système. La rotation est mise en cache et ne change que
+ * lorsque l'affichage le signale.
+ */
+public class AxisRemap {
+    // Matrices [m00, m01, m10, m11] par rotation : écran = M x (valeurs[0], valeurs[1])
+    private static final float[][] MATRICES = {
+            {-1, 0, 0, 1},  // ROTATION_0 : portrait, orientation normale
+            {0, 1, 1, 0},   // ROTATION_90 : paysage, rotation à gauche
+            {1, 0, 0, -1},  // ROTATION_180 : portrait inversé
+            {0, -1, -1, 0}  // ROTATION_270 : paysage, rotation à droite
+    };
+
+    // Matrice de la rotation courante, remplacée d'un bloc (jamais modifiée en place)
+    private volatile float[] matrix = MATRICES[0];
+
+    /**
+     * Met à jour la rotation de l'affichage
+     * @param rotation Valeur Surface.ROTATION_*
+     */
+    public void setRotation(int rotation) {
+        matrix = MATRICES[rotation & 3];
+    }
+
+    /**
+     * Convertit une mesure de l'accéléromètre
+     * @param values Valeurs brutes du capteur (au moins 2)
+     * @param out Tableau recevant [X, Y] dans le repère de l'écran
+     */
+    public void remap(float[] values, float[] out) {
+        float[] m = matrix;
+        float deviceX = values[0];
+        float deviceY = values[1];
+        out[0] = m[0] * deviceX + m[1] * deviceY;
+        out[1] = m[2] * deviceX + m[3] * deviceY;
+    }
+}
@@ -0,0 +1,67 @@
+package com.example.gameapp.utils;
+
+import java.util.Random;
+
+/**
+ * Parcours en profondeur itératif (backtracking) depuis la cellule (1, 1).
+ * La pile explicite remplace la récursion : la profondeur n'est plus limitée
+ * par la pile du thread, ce qui permet de générer des labyrinthes de 2000x2000.
+ * Chaque cellule est empilée et dépilée une seule fois, le temps est donc linéaire.
+ * Donne de longs couloirs sinueux et peu d'impasses.
+ */
+public class BacktrackerAlgorithm implements MazeAlgorithm {
+
+    // Mouvements de 2 cellules de la grille (une cellule logique)
+    private static final int[] DX = {0, 2, 0, -2};  // Haut, Droite, Bas, Gauche
+    private static final int[] DY = {-2, 0, 2, 0};
+
+    @Override
+    public void carve(MazeGrid maze, Random random) {
+        int width = maze.getWidth();
+        int height = maze.getHeight();
+
+        // Pile des cellules en cours d'exploration, codées y * width + x
+        int[] stack = new int[((width - 1) / 2) * ((height - 1) / 2)];
+        int top = 0;
+        int[] candidates = new int[4];
+
+        maze.setWall(1, 1, false); // Marquer la cellule de départ comme un chemin
+        stack[top++] = width + 1;
+
+        while (top > 0) {
+            int current = stack[top - 1];
+            int cx = current % width;
+            int cy = current / width;
+
+            // Lister les voisins encore murés
+            int count = 0;
+            for (int dir = 0; dir < 4; dir++) {
+                int nx = cx + DX[dir];
+                int ny = cy + DY[dir];
+                if (nx > 0 && ny > 0 && nx < width - 1 && ny < height - 1 && maze.isWall(nx, ny)) {
+                    candidates[count++] = dir;
+                }
+            }
+
+            if (count == 0) {
+                top--; // Impasse : revenir en arrière
+                continue;
+            }
+
+            // Choisir une direction au hasard parmi les voisins disponibles
+            int dir = candidates[random.nextInt(count)];
+            int nx = cx + DX[dir];
+            int ny = cy + DY[dir];
+
+            // Creuser le mur intermédiaire puis la nouvelle cellule
+            maze.setWall(cx + DX[dir] / 2, cy + DY[dir] / 2, false);
+            maze.setWall(nx, ny, false);
+            stack[top++] = ny * width + nx;
+        }
+    }
+
+    @Override
+    public int getId() {
+        return BACKTRACKER;
+    }
+}
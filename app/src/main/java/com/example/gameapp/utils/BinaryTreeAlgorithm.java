@@ -0,0 +1,38 @@
+package com.example.gameapp.utils;
+
+import java.util.Random;
+
+/**
+ * Arbre binaire : chaque cellule s'ouvre soit vers le haut, soit vers la gauche.
+ * Le plus rapide et sans mémoire supplémentaire, mais fortement biaisé : la première ligne
+ * et la première colonne sont des couloirs droits et les chemins descendent en diagonale.
+ */
+public class BinaryTreeAlgorithm implements MazeAlgorithm {
+
+    @Override
+    public void carve(MazeGrid maze, Random random) {
+        int cellsX = (maze.getWidth() - 1) / 2;
+        int cellsY = (maze.getHeight() - 1) / 2;
+
+        for (int cy = 0; cy < cellsY; cy++) {
+            int gy = 2 * cy + 1;
+            for (int cx = 0; cx < cellsX; cx++) {
+                int gx = 2 * cx + 1;
+                maze.setWall(gx, gy, false);
+
+                boolean canGoUp = cy > 0;
+                boolean canGoLeft = cx > 0;
+                if (canGoUp && (!canGoLeft || random.nextBoolean())) {
+                    maze.setWall(gx, gy - 1, false);
+                } else if (canGoLeft) {
+                    maze.setWall(gx - 1, gy, false);
+                }
+            }
+        }
+    }
+
+    @Override
+    public int getId() {
+        return BINARY_TREE;
+    }
+}
@@ -0,0 +1,260 @@
+package com.example.gameapp.utils;
+
+import java.util.Arrays;
+
+/**
+ * Réserve de bonus stockée en tableaux de primitives (positions, valeurs, drapeaux actifs).
+ * Les emplacements libérés sont réutilisés : ajouter ou retirer un bonus n'alloue rien
+ * une fois la capacité atteinte, et aucun élément n'est décalé.
+ * Chaque bonus est aussi chaîné dans la case de la grille qui le contient, pour que
+ * la collecte n'examine que les cases voisines de la balle.
+ */
+public class BonusStore {
+    private static final int NONE = -1;
+
+    // Données des bonus, indexées par emplacement
+    private float[] x;
+    private float[] y;
+    private float[] value;
+    private boolean[] active;
+
+    // Chaînage des bonus d'une même case (liste doublement chaînée par emplacement)
+    private int[] cellOf;
+    private int[] next;
+    private int[] prev;
+
+    // Emplacements libres, réutilisés en priorité
+    private int[] freeSlots;
+    private int freeCount;
+
+    // Nombre d'emplacements déjà utilisés au moins une fois
+    private int slotCount;
+    private int activeCount;
+
+    // Premier bonus de chaque case de la grille
+    private int[] head = new int[0];
+    private int gridWidth;
+    private int gridHeight;
+    private float cellSize = 1;
+    private float offsetX;
+    private float offsetY;
+
+    // Rayon de collision commun à tous les bonus
+    private float radius;
+
+    /**
+     * @param initialCapacity Nombre de bonus prévus ; la réserve s'agrandit si nécessaire
+     */
+    public BonusStore(int initialCapacity) {
+        int capacity = Math.max(1, initialCapacity);
+        x = new float[capacity];
+        y = new float[capacity];
+        value = new float[capacity];
+        active = new boolean[capacity];
+        cellOf = new int[capacity];
+        next = new int[capacity];
+        prev = new int[capacity];
+        freeSlots = new int[capacity];
+    }
+
+    /**
+     * Définit la grille utilisée pour l'index spatial et y replace tous les bonus
+     * @param width Largeur de la grille en cellules
+     * @param height Hauteur de la grille en cellules
+     * @param cellSize Taille d'une cellule en pixels
+     * @param offsetX Position X du coin de la grille en pixels
+     * @param offsetY Position Y du coin de la grille en pixels
+     */
+    public void setGrid(int width, int height, float cellSize, float offsetX, float offsetY) {
+        this.gridWidth = Math.max(1, width);
+        this.gridHeight = Math.max(1, height);
+        this.cellSize = cellSize > 0 ? cellSize : 1;
+        this.offsetX = offsetX;
+        this.offsetY = offsetY;
+
+        int cells = gridWidth * gridHeight;
+        if (head.length < cells) {
+            head = new int[cells];
+        }
+        Arrays.fill(head, 0, cells, NONE);
+        for (int slot = 0; slot < slotCount; slot++) {
+            if (active[slot]) link(slot);
+        }
+    }
+
+    /**
+     * Rayon de collision des bonus, en pixels
+     */
+    public void setRadius(float radius) {
+        this.radius = radius;
+    }
+
+    public float getRadius() {
+        return radius;
+    }
+
+    /**
+     * Ajoute un bonus
+     * @return Emplacement du bonus
+     */
+    public int add(float bonusX, float bonusY, float bonusValue) {
+        int slot;
+        if (freeCount > 0) {
+            slot = freeSlots[--freeCount];
+        } else {
+            if (slotCount == x.length) grow();
+            slot = slotCount++;
+        }
+        x[slot] = bonusX;
+        y[slot] = bonusY;
+        value[slot] = bonusValue;
+        active[slot] = true;
+        activeCount++;
+        link(slot);
+        return slot;
+    }
+
+    /**
+     * Retire un bonus ; son emplacement sera réutilisé
+     */
+    public void remove(int slot) {
+        if (!active[slot]) return;
+        unlink(slot);
+        active[slot] = false;
+        activeCount--;
+        freeSlots[freeCount++] = slot;
+    }
+
+    /**
+     * Retire tous les bonus
+     */
+    public void clear() {
+        for (int slot = 0; slot < slotCount; slot++) {
+            remove(slot);
+        }
+    }
+
+    /**
+     * Déplace un bonus et met à jour sa case
+     */
+    public void setPosition(int slot, float bonusX, float bonusY) {
+        x[slot] = bonusX;
+        y[slot] = bonusY;
+        if (!active[slot] || cellAt(bonusX, bonusY) == cellOf[slot]) return;
+        unlink(slot);
+        link(slot);
+    }
+
+    /**
+     * Collecte les bonus touchés par la balle, en n'examinant que les cases qu'elle peut atteindre
+     * @return Somme des valeurs des bonus collectés (retirés de la réserve)
+     */
+    public float collect(float ballX, float ballY, float ballRadius) {
+        if (activeCount == 0 || head.length == 0) return 0;
+        float reach = ballRadius + radius;
+        float reachSquared = reach * reach;
+
+        int minX = clamp((int) Math.floor((ballX - reach - offsetX) / cellSize), gridWidth);
+        int maxX = clamp((int) Math.floor((ballX + reach - offsetX) / cellSize), gridWidth);
+        int minY = clamp((int) Math.floor((ballY - reach - offsetY) / cellSize), gridHeight);
+        int maxY = clamp((int) Math.floor((ballY + reach - offsetY) / cellSize), gridHeight);
+
+        float collected = 0;
+        for (int cy = minY; cy <= maxY; cy++) {
+            for (int cx = minX; cx <= maxX; cx++) {
+                int slot = head[cy * gridWidth + cx];
+                while (slot != NONE) {
+                    int following = next[slot];
+                    float dx = x[slot] - ballX;
+                    float dy = y[slot] - ballY;
+                    if (dx * dx + dy * dy < reachSquared) {
+                        collected += value[slot];
+                        remove(slot);
+                    }
+                    slot = following;
+                }
+            }
+        }
+        return collected;
+    }
+
+    /**
+     * Nombre d'emplacements à parcourir (actifs ou non) ; tester isActive() pour chacun
+     */
+    public int getSlotCount() {
+        return slotCount;
+    }
+
+    public int getActiveCount() {
+        return activeCount;
+    }
+
+    public int getCapacity() {
+        return x.length;
+    }
+
+    public boolean isActive(int slot) {
+        return active[slot];
+    }
+
+    public float getX(int slot) {
+        return x[slot];
+    }
+
+    public float getY(int slot) {
+        return y[slot];
+    }
+
+    public float getValue(int slot) {
+        return value[slot];
+    }
+
+    private int cellAt(float px, float py) {
+        if (head.length == 0) return NONE;
+        int cx = clamp((int) Math.floor((px - offsetX) / cellSize), gridWidth);
+        int cy = clamp((int) Math.floor((py - offsetY) / cellSize), gridHeight);
+        return cy * gridWidth + cx;
+    }
+
+    // Les bonus hors de la grille sont rangés dans la case du bord la plus proche
+    private static int clamp(int cell, int size) {
+        return cell < 0 ? 0 : (cell >= size ? size - 1 : cell);
+    }
+
+    private void link(int slot) {
+        int cell = cellAt(x[slot], y[slot]);
+        cellOf[slot] = cell;
+        prev[slot] = NONE;
+        if (cell == NONE) {
+            next[slot] = NONE;
+            return;
+        }
+        next[slot] = head[cell];
+        if (head[cell] != NONE) prev[head[cell]] = slot;
+        head[cell] = slot;
+    }
+
+    private void unlink(int slot) {
+        int cell = cellOf[slot];
+        if (cell == NONE) return;
+        if (prev[slot] != NONE) {
+            next[prev[slot]] = next[slot];
+        } else {
+            head[cell] = next[slot];
+        }
+        if (next[slot] != NONE) prev[next[slot]] = prev[slot];
+        cellOf[slot] = NONE;
+    }
+
+    private void grow() {
+        int capacity = x.length * 2;
+        x = Arrays.copyOf(x, capacity);
+        y = Arrays.copyOf(y, capacity);
+        value = Arrays.copyOf(value, capacity);
+        active = Arrays.copyOf(active, capacity);
+        cellOf = Arrays.copyOf(cellOf, capacity);
+        next = Arrays.copyOf(next, capacity);
+        prev = Arrays.copyOf(prev, capacity);
+        freeSlots = Arrays.copyOf(freeSlots, capacity);
+    }
+}
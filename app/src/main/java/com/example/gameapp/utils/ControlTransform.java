@@ -0,0 +1,58 @@
+package com.example.gameapp.utils;
+
+/**
+ * Effets de lucidité sur les contrôles (inversion des axes puis rotation), compilés
+ * en une matrice 2x2. La matrice n'est recalculée (toRadians, cos, sin) que lorsque
+ * les paramètres changent ; son application ne fait que quatre multiplications,
+ * sans allocation.
+ */
+public class ControlTransform {
+    private boolean invertX;
+    private boolean invertY;
+    private float rotationDegrees;
+
+    // Matrice courante, identité par défaut
+    private float m00 = 1, m01 = 0;
+    private float m10 = 0, m11 = 1;
+
+    /**
+     * Met à jour les effets ; ne recalcule la matrice que s'ils ont changé
+     * @param invertX Inverser l'axe X
+     * @param invertY Inverser l'axe Y
+     * @param rotationDegrees Rotation des contrôles, en degrés
+     * @return true si la matrice a été recalculée
+     */
+    public boolean set(boolean invertX, boolean invertY, float rotationDegrees) {
+        if (invertX == this.invertX && invertY == this.invertY && rotationDegrees == this.rotationDegrees) {
+            return false;
+        }
+        this.invertX = invertX;
+        this.invertY = invertY;
+        this.rotationDegrees = rotationDegrees;
+
+        float signX = invertX ? -1f : 1f;
+        float signY = invertY ? -1f : 1f;
+        float cos = 1f;
+        float sin = 0f;
+        if (rotationDegrees != 0) {
+            double radians = Math.toRadians(rotationDegrees);
+            cos = (float) Math.cos(radians);
+            sin = (float) Math.sin(radians);
+        }
+        // Rotation appliquée après l'inversion des axes
+        m00 = cos * signX;
+        m01 = -sin * signY;
+        m10 = sin * signX;
+        m11 = cos * signY;
+        return true;
+    }
+
+    /**
+     * Applique les effets à une commande
+     * @param out Tableau recevant [X, Y] transformés
+     */
+    public void apply(float x, float y, float[] out) {
+        out[0] = m00 * x + m01 * y;
+        out[1] = m10 * x + m11 * y;
+    }
+}
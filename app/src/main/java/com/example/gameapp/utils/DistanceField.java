@@ -0,0 +1,135 @@
+package com.example.gameapp.utils;
+
+/**
+ * Champ de distance précalculé d'un labyrinthe : pour chaque cellule, la distance
+ * au mur le plus proche et la cellule libre la plus proche.
+ * Calculé une seule fois par labyrinthe (deux passes de propagation sur la grille),
+ * il répond ensuite à chaque requête en temps constant.
+ * Les données sont stockées dans le repère de la grille d'origine et lues à travers
+ * la vue pivotée : changer l'orientation de la vue ne demande aucun recalcul.
+ */
+public class DistanceField {
+    private static final int NONE = -1;
+
+    private final RotatedMazeView view;
+    private final int width;
+    private final int height;
+
+    // Distance (en cellules, de centre à centre) au mur le plus proche
+    private final float[] wallDistance;
+    // Index (y * width + x) de la cellule libre la plus proche, NONE si aucune
+    private final int[] nearestFree;
+
+    /**
+     * Construit le champ de distance de la grille vue par view
+     * @param view Vue du labyrinthe (les requêtes suivent son orientation courante)
+     */
+    public DistanceField(RotatedMazeView view) {
+        this.view = view;
+        MazeGrid grid = view.getBase();
+        this.width = grid.getWidth();
+        this.height = grid.getHeight();
+
+        int[] nearestWall = new int[width * height];
+        nearestFree = new int[width * height];
+        for (int y = 0; y < height; y++) {
+            for (int x = 0; x < width; x++) {
+                int index = y * width + x;
+                boolean wall = grid.isWall(x, y);
+                nearestWall[index] = wall ? index : NONE;
+                nearestFree[index] = wall ? NONE : index;
+            }
+        }
+        propagate(nearestWall);
+        propagate(nearestFree);
+
+        wallDistance = new float[width * height];
+        for (int index = 0; index < wallDistance.length; index++) {
+            int site = nearestWall[index];
+            wallDistance[index] = site == NONE
+                    ? Float.POSITIVE_INFINITY
+                    : (float) Math.sqrt(squaredDistance(index, site));
+        }
+    }
+
+    /**
+     * Distance (en cellules) entre le centre de la cellule (x, y) de la vue
+     * et le centre du mur le plus proche. Vaut 0 sur un mur.
+     */
+    public float distanceToWall(int x, int y) {
+        return wallDistance[view.toBaseY(x, y) * width + view.toBaseX(x, y)];
+    }
+
+    /**
+     * Cellule libre la plus proche de (x, y), dans le repère de la vue
+     * @return Index y * largeurVue + x, ou -1 si le labyrinthe n'a aucun passage
+     */
+    public int nearestFreeCell(int x, int y) {
+        int site = nearestFree[view.toBaseY(x, y) * width + view.toBaseX(x, y)];
+        if (site == NONE) return NONE;
+        int baseX = site % width;
+        int baseY = site / width;
+        return view.fromBaseY(baseX, baseY) * view.getWidth() + view.fromBaseX(baseX, baseY);
+    }
+
+    /**
+     * Propagation en deux passes (avant puis arrière) de la cellule source la plus proche.
+     * Chaque cellule hérite de la meilleure source de ses voisines déjà traitées.
+     */
+    private void propagate(int[] nearest) {
+        // Passe avant : voisines à gauche et sur la ligne du dessus
+        for (int y = 0; y < height; y++) {
+            for (int x = 0; x < width; x++) {
+                int index = y * width + x;
+                if (x > 0) relax(nearest, index, index - 1);
+                if (y > 0) {
+                    int above = index - width;
+                    relax(nearest, index, above);
+                    if (x > 0) relax(nearest, index, above - 1);
+                    if (x < width - 1) relax(nearest, index, above + 1);
+                }
+            }
+            // Reprendre la ligne de droite à gauche pour propager vers la gauche
+            for (int x = width - 2; x >= 0; x--) {
+                int index = y * width + x;
+                relax(nearest, index, index + 1);
+            }
+        }
+
+        // Passe arrière : voisines à droite et sur la ligne du dessous
+        for (int y = height - 1; y >= 0; y--) {
+            for (int x = width - 1; x >= 0; x--) {
+                int index = y * width + x;
+                if (x < width - 1) relax(nearest, index, index + 1);
+                if (y < height - 1) {
+                    int below = index + width;
+                    relax(nearest, index, below);
+                    if (x > 0) relax(nearest, index, below - 1);
+                    if (x < width - 1) relax(nearest, index, below + 1);
+                }
+            }
+            for (int x = 1; x < width; x++) {
+                int index = y * width + x;
+                relax(nearest, index, index - 1);
+            }
+        }
+    }
+
+    /**
+     * Remplace la source de index par celle de neighbour si elle est plus proche
+     */
+    private void relax(int[] nearest, int index, int neighbour) {
+        int candidate = nearest[neighbour];
+        if (candidate == NONE) return;
+        int current = nearest[index];
+        if (current == NONE || squaredDistance(index, candidate) < squaredDistance(index, current)) {
+            nearest[index] = candidate;
+        }
+    }
+
+    private int squaredDistance(int a, int b) {
+        int dx = a % width - b % width;
+        int dy = a / width - b / width;
+        return dx * dx + dy * dy;
+    }
+}
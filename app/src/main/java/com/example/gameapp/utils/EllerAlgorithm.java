@@ -0,0 +1,28 @@
+package com.example.gameapp.utils;
+
+import java.util.Random;
+
+/**
+ * Algorithme d'Eller : le labyrinthe est construit ligne par ligne en ne gardant en mémoire
+ * que les ensembles de cellules (reliées par les lignes précédentes) de la ligne courante.
+ * Chaque ligne fusionne au hasard des voisines d'ensembles différents, puis chaque ensemble
+ * descend au moins une fois vers la ligne suivante. La dernière ligne réunit tous les ensembles.
+ * Les lignes sont produites par EllerRowStream, fermé avant la dernière ligne de cellules.
+ */
+public class EllerAlgorithm implements MazeAlgorithm {
+
+    @Override
+    public void carve(MazeGrid maze, Random random) {
+        EllerRowStream stream = new EllerRowStream((maze.getWidth() - 1) / 2, random);
+        int height = maze.getHeight();
+        for (int y = 0; y < height; y++) {
+            if (y == height - 2) stream.close();
+            stream.nextRow(maze, y);
+        }
+    }
+
+    @Override
+    public int getId() {
+        return ELLER;
+    }
+}
@@ -0,0 +1,190 @@
+package com.example.gameapp.utils;
+
+import java.util.Random;
+
+/**
+ * Génération d'un labyrinthe ligne par ligne (algorithme d'Eller), sans limite de hauteur.
+ * Seuls les ensembles de la ligne courante sont gardés : la mémoire est en O(largeur)
+ * quel que soit le nombre de lignes produites.
+ * Les lignes de grille suivent la disposition de MazeGenerator : ligne 0 = bord supérieur,
+ * lignes impaires = cellules et passages horizontaux, lignes paires = passages vers le bas.
+ * Tant que le flux n'est pas fermé, toutes les cellules déjà produites restent reliées
+ * entre elles par les lignes à venir ; close() termine le labyrinthe sur une ligne qui
+ * réunit tous les ensembles.
+ */
+public class EllerRowStream {
+    private final int cellsX;
+    private final int width;
+    private final Random random;
+
+    // Ensembles de la ligne courante (union-find sur les colonnes)
+    private final int[] parent;
+    private final int[] root;
+    private final int[] remaining;
+    private final boolean[] descended;
+    private final int[] representative;
+
+    // Passages ouverts de la ligne de cellules courante
+    private final boolean[] right;
+    private final boolean[] down;
+
+    private long rowsEmitted;
+    private boolean closing;
+    // La dernière ligne de cellules a été produite : la suivante est le bord inférieur
+    private boolean lastCellRowDone;
+    private boolean finished;
+
+    /**
+     * @param cellsX Largeur en cellules du générateur (la grille fait 2 x cellsX + 1 colonnes)
+     * @param random Seule source d'aléa : même graine, mêmes lignes
+     */
+    public EllerRowStream(int cellsX, Random random) {
+        if (cellsX <= 0) {
+            throw new IllegalArgumentException("Largeur invalide : " + cellsX);
+        }
+        this.cellsX = cellsX;
+        this.width = 2 * cellsX + 1;
+        this.random = random;
+        parent = new int[cellsX];
+        root = new int[cellsX];
+        remaining = new int[cellsX];
+        descended = new boolean[cellsX];
+        representative = new int[cellsX];
+        right = new boolean[cellsX];
+        down = new boolean[cellsX];
+        for (int cx = 0; cx < cellsX; cx++) {
+            parent[cx] = cx;
+        }
+    }
+
+    /**
+     * @param cellsX Largeur en cellules du générateur
+     * @param seed Graine du générateur aléatoire
+     */
+    public EllerRowStream(int cellsX, long seed) {
+        this(cellsX, new Random(seed));
+    }
+
+    /**
+     * Largeur des lignes de grille produites
+     */
+    public int getWidth() {
+        return width;
+    }
+
+    /**
+     * Nombre de lignes de grille déjà produites (index de la prochaine)
+     */
+    public long getRowsEmitted() {
+        return rowsEmitted;
+    }
+
+    /**
+     * La prochaine ligne de cellules sera la dernière : elle réunit tous les ensembles
+     * et la ligne suivante forme le bord inférieur
+     */
+    public void close() {
+        closing = true;
+    }
+
+    /**
+     * Indique si le labyrinthe est terminé (bord inférieur produit)
+     */
+    public boolean isFinished() {
+        return finished;
+    }
+
+    /**
+     * Écrit la ligne suivante dans une ligne de la grille cible (toutes ses cases sont réécrites)
+     * @param target Grille de même largeur que le flux
+     * @param y Ligne de la grille cible à remplir
+     * @throws IllegalStateException si le labyrinthe est terminé
+     */
+    public void nextRow(MazeGrid target, int y) {
+        if (finished) {
+            throw new IllegalStateException("Labyrinthe terminé");
+        }
+        if (target.getWidth() != width) {
+            throw new IllegalArgumentException("Largeur différente : " + target.getWidth() + " au lieu de " + width);
+        }
+
+        // Ligne entièrement murée, puis ouverture des passages
+        for (int w = 0; w < target.getWordsPerRow(); w++) {
+            target.setRowWord(y, w, -1L);
+        }
+
+        // La ligne 0 (bord supérieur) reste murée
+        if ((rowsEmitted & 1) == 1) {
+            carveCellRow();
+            for (int cx = 0; cx < cellsX; cx++) {
+                target.setWall(2 * cx + 1, y, false);
+                if (right[cx]) target.setWall(2 * cx + 2, y, false);
+            }
+        } else if (rowsEmitted > 0) {
+            for (int cx = 0; cx < cellsX; cx++) {
+                if (down[cx]) target.setWall(2 * cx + 1, y, false);
+            }
+            if (lastCellRowDone) finished = true;
+        }
+        rowsEmitted++;
+    }
+
+    /**
+     * Décide les passages de la ligne de cellules courante et prépare les ensembles de la suivante
+     */
+    private void carveCellRow() {
+        boolean last = closing;
+
+        // Fusions horizontales, systématiques sur la dernière ligne
+        for (int cx = 0; cx + 1 < cellsX; cx++) {
+            int a = find(cx);
+            int b = find(cx + 1);
+            right[cx] = a != b && (last || random.nextBoolean());
+            if (right[cx]) parent[b] = a;
+        }
+        right[cellsX - 1] = false;
+
+        if (last) {
+            for (int cx = 0; cx < cellsX; cx++) {
+                down[cx] = false;
+            }
+            lastCellRowDone = true;
+            return;
+        }
+
+        // Taille de chaque ensemble dans la ligne
+        for (int cx = 0; cx < cellsX; cx++) {
+            remaining[cx] = 0;
+            descended[cx] = false;
+            representative[cx] = -1;
+        }
+        for (int cx = 0; cx < cellsX; cx++) {
+            root[cx] = find(cx);
+            remaining[root[cx]]++;
+        }
+
+        // Descentes : au hasard, et forcée sur la dernière cellule d'un ensemble qui n'est pas encore descendu
+        for (int cx = 0; cx < cellsX; cx++) {
+            int set = root[cx];
+            remaining[set]--;
+            down[cx] = random.nextBoolean() || (remaining[set] == 0 && !descended[set]);
+            if (down[cx]) {
+                descended[set] = true;
+                // La cellule du dessous garde l'ensemble (la première descente en devient la racine)
+                if (representative[set] < 0) representative[set] = cx;
+                parent[cx] = representative[set];
+            } else {
+                // Nouvel ensemble d'une seule cellule
+                parent[cx] = cx;
+            }
+        }
+    }
+
+    private int find(int cx) {
+        while (parent[cx] != cx) {
+            parent[cx] = parent[parent[cx]]; // Compression par moitiés
+            cx = parent[cx];
+        }
+        return cx;
+    }
+}
@@ -0,0 +1,89 @@
+package com.example.gameapp.utils;
+
+import java.util.Locale;
+
+/**
+ * Mesure de la régularité des images affichées.
+ * Enregistre l'intervalle entre deux images consécutives et en tire la moyenne,
+ * la variance et le nombre d'à-coups (images arrivées avec au moins une synchronisation
+ * verticale de retard). Sans allocation : utilisable à chaque image.
+ */
+public class FramePacingStats {
+    // Un intervalle dépassant 1,5 période d'affichage signifie qu'une synchronisation a été manquée
+    private static final float JANK_THRESHOLD = 1.5f;
+
+    private long expectedIntervalNanos;
+    private long lastFrameNanos = -1;
+
+    private int intervalCount;
+    private int jankCount;
+    // Moyenne et somme des carrés des écarts (algorithme de Welford), en millisecondes
+    private double meanMillis;
+    private double squaredDeviationSum;
+
+    /**
+     * @param refreshRate Fréquence de rafraîchissement de l'écran en Hz
+     */
+    public FramePacingStats(float refreshRate) {
+        setRefreshRate(refreshRate);
+    }
+
+    public void setRefreshRate(float refreshRate) {
+        expectedIntervalNanos = (long) (1_000_000_000L / refreshRate);
+    }
+
+    /**
+     * Enregistre une image affichée à l'instant frameTimeNanos
+     */
+    public void recordFrame(long frameTimeNanos) {
+        if (lastFrameNanos >= 0) {
+            long interval = frameTimeNanos - lastFrameNanos;
+            if (interval > expectedIntervalNanos * JANK_THRESHOLD) {
+                jankCount++;
+            }
+
+            double millis = interval / 1_000_000.0;
+            intervalCount++;
+            double delta = millis - meanMillis;
+            meanMillis += delta / intervalCount;
+            squaredDeviationSum += delta * (millis - meanMillis);
+        }
+        lastFrameNanos = frameTimeNanos;
+    }
+
+    /**
+     * Remet les compteurs à zéro (la prochaine image servira de référence)
+     */
+    public void reset() {
+        lastFrameNanos = -1;
+        intervalCount = 0;
+        jankCount = 0;
+        meanMillis = 0;
+        squaredDeviationSum = 0;
+    }
+
+    public int getIntervalCount() {
+        return intervalCount;
+    }
+
+    public int getJankCount() {
+        return jankCount;
+    }
+
+    public double getMeanIntervalMillis() {
+        return meanMillis;
+    }
+
+    /**
+     * Variance des intervalles entre images, en ms²
+     */
+    public double getIntervalVariance() {
+        return intervalCount > 1 ? squaredDeviationSum / (intervalCount - 1) : 0;
+    }
+
+    @Override
+    public String toString() {
+        return String.format(Locale.US, "%d images, intervalle moyen %.2f ms, écart-type %.2f ms, %d à-coups",
+                intervalCount, meanMillis, Math.sqrt(getIntervalVariance()), jankCount);
+    }
+}
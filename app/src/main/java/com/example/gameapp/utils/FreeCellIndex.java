@@ -0,0 +1,166 @@
+package com.example.gameapp.utils;
+
+import java.util.Arrays;
+import java.util.Random;
+
+/**
+ * Index des cellules libres d'un labyrinthe, pour placer des objets à une distance donnée
+ * d'une origine (la balle) sans tirage au hasard répété.
+ * La liste des passages est construite une fois par configuration du labyrinthe.
+ * Les distances (en pas dans le labyrinthe) sont calculées par un parcours en largeur borné
+ * à maxDistance depuis la cellule d'origine, relancé seulement quand l'origine change de cellule.
+ * Les cellules situées entre minDistance et maxDistance forment un anneau dans lequel
+ * un tirage uniforme se fait en temps constant.
+ */
+public class FreeCellIndex {
+    private final int minDistance;
+    private final int maxDistance;
+
+    private MazeView maze;
+    private int width;
+
+    // Passages du labyrinthe (index y * largeur + x)
+    private int[] freeCells = new int[0];
+    private int freeCellCount;
+
+    // Parcours en largeur : distances valides seulement pour les cellules marquées du passage courant
+    private int[] distance = new int[0];
+    private int[] visitStamp = new int[0];
+    private int stamp;
+    private int[] queue = new int[0];
+
+    // Cellules à une distance comprise entre minDistance et maxDistance de l'origine
+    private int[] ringCells = new int[0];
+    private int ringCount;
+
+    private int originX = -1;
+    private int originY = -1;
+
+    /**
+     * @param minDistance Distance minimale (en pas) des cellules de l'anneau
+     * @param maxDistance Distance maximale (en pas) des cellules de l'anneau
+     */
+    public FreeCellIndex(int minDistance, int maxDistance) {
+        this.minDistance = minDistance;
+        this.maxDistance = maxDistance;
+    }
+
+    /**
+     * Reconstruit l'index pour une nouvelle configuration du labyrinthe
+     */
+    public void rebuild(MazeView maze) {
+        this.maze = maze;
+        this.width = maze.getWidth();
+        int cells = width * maze.getHeight();
+        if (distance.length < cells) {
+            freeCells = new int[cells];
+            distance = new int[cells];
+            visitStamp = new int[cells];
+            queue = new int[cells];
+            ringCells = new int[cells];
+            stamp = 0;
+        }
+
+        freeCellCount = 0;
+        for (int y = 0; y < maze.getHeight(); y++) {
+            for (int x = 0; x < width; x++) {
+                if (!maze.isWall(x, y)) {
+                    freeCells[freeCellCount++] = y * width + x;
+                }
+            }
+        }
+
+        // Les distances précédentes ne sont plus valables
+        originX = -1;
+        originY = -1;
+        ringCount = 0;
+    }
+
+    /**
+     * Nombre de passages du labyrinthe
+     */
+    public int getFreeCellCount() {
+        return freeCellCount;
+    }
+
+    /**
+     * Passage numéro i (index y * largeur + x)
+     */
+    public int getFreeCell(int i) {
+        return freeCells[i];
+    }
+
+    /**
+     * Définit la cellule d'origine ; les distances ne sont recalculées que si elle a changé
+     */
+    public void setOrigin(int x, int y) {
+        if (maze == null || (x == originX && y == originY)) return;
+        originX = x;
+        originY = y;
+        ringCount = 0;
+
+        if (++stamp == 0) {
+            Arrays.fill(visitStamp, 0);
+            stamp = 1;
+        }
+        if (!maze.contains(x, y) || maze.isWall(x, y)) return;
+
+        // Parcours en largeur borné à maxDistance
+        int head = 0;
+        int tail = 0;
+        int start = y * width + x;
+        queue[tail++] = start;
+        visitStamp[start] = stamp;
+        distance[start] = 0;
+        while (head < tail) {
+            int cell = queue[head++];
+            int d = distance[cell];
+            if (d >= minDistance) {
+                ringCells[ringCount++] = cell;
+            }
+            if (d == maxDistance) continue;
+
+            int cx = cell % width;
+            int cy = cell / width;
+            tail = visit(cx + 1, cy, d + 1, tail);
+            tail = visit(cx - 1, cy, d + 1, tail);
+            tail = visit(cx, cy + 1, d + 1, tail);
+            tail = visit(cx, cy - 1, d + 1, tail);
+        }
+    }
+
+    private int visit(int x, int y, int d, int tail) {
+        if (!maze.contains(x, y) || maze.isWall(x, y)) return tail;
+        int cell = y * width + x;
+        if (visitStamp[cell] == stamp) return tail;
+        visitStamp[cell] = stamp;
+        distance[cell] = d;
+        queue[tail] = cell;
+        return tail + 1;
+    }
+
+    /**
+     * Distance en pas de la cellule (x, y) à l'origine
+     * @return -1 si la cellule est un mur, inaccessible ou au-delà de maxDistance
+     */
+    public int getDistance(int x, int y) {
+        if (maze == null || !maze.contains(x, y)) return -1;
+        int cell = y * width + x;
+        return visitStamp[cell] == stamp && originX >= 0 ? distance[cell] : -1;
+    }
+
+    /**
+     * Nombre de cellules dans l'anneau [minDistance, maxDistance] autour de l'origine
+     */
+    public int getRingCount() {
+        return ringCount;
+    }
+
+    /**
+     * Tire uniformément une cellule de l'anneau, en temps constant
+     * @return Index y * largeur + x de la cellule, ou -1 si l'anneau est vide
+     */
+    public int pickRingCell(Random random) {
+        return ringCount > 0 ? ringCells[random.nextInt(ringCount)] : -1;
+    }
+}
@@ -0,0 +1,111 @@
+package com.example.gameapp.utils;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * File d'échantillons d'accéléromètre entre le thread des capteurs (producteur)
+ * et le thread de jeu (consommateur), sans verrou.
+ * Un seul producteur et un seul consommateur : chacun n'écrit que son propre compteur
+ * de séquence, publié par une écriture ordonnée ; les échantillons d'une case sont écrits
+ * avant la publication de la séquence et lus après l'avoir observée.
+ * Chaque échantillon porte son numéro de séquence. Si la file est pleine, le nouvel
+ * échantillon est abandonné et compté, sans jamais bloquer le producteur.
+ */
+public class InputRing {
+
+    /**
+     * Reçoit les échantillons lors de la vidange de la file
+     */
+    public interface SampleHandler {
+        void onSample(long sequence, float x, float y, long timestampNanos);
+    }
+
+    private final int mask;
+    private final float[] xs;
+    private final float[] ys;
+    private final long[] timestamps;
+
+    // Prochaine séquence à écrire (écrite par le producteur seulement)
+    private final AtomicLong writeSequence = new AtomicLong();
+    // Prochaine séquence à lire (écrite par le consommateur seulement)
+    private final AtomicLong readSequence = new AtomicLong();
+    // Dernière séquence lue connue du producteur, pour éviter de relire le compteur partagé
+    private long cachedReadSequence;
+    private final AtomicLong dropped = new AtomicLong();
+
+    /**
+     * @param capacity Nombre d'échantillons en attente (arrondi à la puissance de 2 supérieure)
+     */
+    public InputRing(int capacity) {
+        int size = Integer.highestOneBit(Math.max(1, capacity - 1)) << 1;
+        mask = size - 1;
+        xs = new float[size];
+        ys = new float[size];
+        timestamps = new long[size];
+    }
+
+    /**
+     * Ajoute un échantillon (thread producteur uniquement)
+     * @return false si la file est pleine et l'échantillon abandonné
+     */
+    public boolean offer(float x, float y, long timestampNanos) {
+        long sequence = writeSequence.get();
+        if (sequence - cachedReadSequence > mask) {
+            cachedReadSequence = readSequence.get();
+            if (sequence - cachedReadSequence > mask) {
+                dropped.incrementAndGet();
+                return false;
+            }
+        }
+        int slot = (int) sequence & mask;
+        xs[slot] = x;
+        ys[slot] = y;
+        timestamps[slot] = timestampNanos;
+        // Publication : les écritures ci-dessus sont visibles avant la nouvelle séquence
+        writeSequence.lazySet(sequence + 1);
+        return true;
+    }
+
+    /**
+     * Transmet dans l'ordre tous les échantillons publiés (thread consommateur uniquement)
+     * @return Nombre d'échantillons transmis
+     */
+    public int drain(SampleHandler handler) {
+        return drain(handler, Long.MAX_VALUE);
+    }
+
+    /**
+     * Transmet dans l'ordre les échantillons publiés datés au plus de maxTimestampNanos ;
+     * les suivants restent dans la file (thread consommateur uniquement)
+     * @return Nombre d'échantillons transmis
+     */
+    public int drain(SampleHandler handler, long maxTimestampNanos) {
+        long sequence = readSequence.get();
+        long available = writeSequence.get();
+        long s = sequence;
+        while (s < available) {
+            int slot = (int) s & mask;
+            if (timestamps[slot] > maxTimestampNanos) break;
+            handler.onSample(s, xs[slot], ys[slot], timestamps[slot]);
+            s++;
+        }
+        // Libère les cases pour le producteur
+        readSequence.lazySet(s);
+        return (int) (s - sequence);
+    }
+
+    /**
+     * Abandonne les échantillons en attente, par exemple au retour de pause
+     * (rôle du consommateur : à appeler quand le thread de jeu est arrêté)
+     */
+    public void discardPending() {
+        readSequence.lazySet(writeSequence.get());
+    }
+
+    /**
+     * Nombre d'échantillons abandonnés parce que la file était pleine
+     */
+    public long getDroppedCount() {
+        return dropped.get();
+    }
+}
@@ -0,0 +1,84 @@
+package com.example.gameapp.utils;
+
+import java.util.Random;
+
+/**
+ * Algorithme de Kruskal : les murs intérieurs sont parcourus dans un ordre aléatoire et
+ * chacun est ouvert s'il sépare deux ensembles de cellules encore disjoints (union-find
+ * avec union par taille et compression de chemin). Temps quasi linéaire, beaucoup d'impasses
+ * courtes et de carrefours.
+ */
+public class KruskalAlgorithm implements MazeAlgorithm {
+
+    @Override
+    public void carve(MazeGrid maze, Random random) {
+        int cellsX = (maze.getWidth() - 1) / 2;
+        int cellsY = (maze.getHeight() - 1) / 2;
+        int cells = cellsX * cellsY;
+
+        for (int cy = 0; cy < cellsY; cy++) {
+            for (int cx = 0; cx < cellsX; cx++) {
+                maze.setWall(2 * cx + 1, 2 * cy + 1, false);
+            }
+        }
+
+        // Murs intérieurs : cellule * 2 (mur de droite) ou cellule * 2 + 1 (mur du bas)
+        int[] edges = new int[2 * cells];
+        int edgeCount = 0;
+        for (int cell = 0; cell < cells; cell++) {
+            if (cell % cellsX + 1 < cellsX) edges[edgeCount++] = cell * 2;
+            if (cell / cellsX + 1 < cellsY) edges[edgeCount++] = cell * 2 + 1;
+        }
+
+        // Mélange de Fisher-Yates
+        for (int i = edgeCount - 1; i > 0; i--) {
+            int j = random.nextInt(i + 1);
+            int edge = edges[i];
+            edges[i] = edges[j];
+            edges[j] = edge;
+        }
+
+        // parent[c] < 0 : c est une racine et -parent[c] la taille de son ensemble
+        int[] parent = new int[cells];
+        for (int cell = 0; cell < cells; cell++) {
+            parent[cell] = -1;
+        }
+
+        int unions = 0;
+        for (int i = 0; i < edgeCount && unions < cells - 1; i++) {
+            int a = edges[i] >> 1;
+            int b = (edges[i] & 1) == 0 ? a + 1 : a + cellsX;
+            int rootA = find(parent, a);
+            int rootB = find(parent, b);
+            if (rootA == rootB) continue;
+
+            if (parent[rootA] > parent[rootB]) {
+                int root = rootA;
+                rootA = rootB;
+                rootB = root;
+            }
+            parent[rootA] += parent[rootB];
+            parent[rootB] = rootA;
+            unions++;
+
+            // Le mur est au milieu des deux cellules
+            maze.setWall(a % cellsX + b % cellsX + 1, a / cellsX + b / cellsX + 1, false);
+        }
+    }
+
+    private static int find(int[] parent, int cell) {
+        while (parent[cell] >= 0) {
+            int up = parent[cell];
+            if (parent[up] >= 0) {
+                parent[cell] = parent[up]; // Compression par moitiés
+            }
+            cell = up;
+        }
+        return cell;
+    }
+
+    @Override
+    public int getId() {
+        return KRUSKAL;
+    }
+}
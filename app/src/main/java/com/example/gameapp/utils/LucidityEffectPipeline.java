@@ -0,0 +1,120 @@
+package com.example.gameapp.utils;
+
+import java.util.Arrays;
+
+/**
+ * Chaîne d'effets pilotés par la lucidité.
+ * Chaque effet est décrit par une courbe (valeur de l'effet en fonction de la lucidité),
+ * précalculée une fois en table sur BUCKETS niveaux de lucidité. À chaque frame, seule la
+ * quantification de la lucidité est calculée : les effets ne sont réévalués que lorsque
+ * la lucidité change de niveau. Ajouter un effet ne coûte donc rien par frame.
+ * Un effet peut être lu avec get(), ou appliqué par un consommateur appelé seulement
+ * quand sa valeur change.
+ */
+public class LucidityEffectPipeline {
+
+    /**
+     * Courbe d'un effet : valeur de l'effet pour une lucidité entre 0 et 1
+     */
+    public interface Curve {
+        float valueAt(float lucidity);
+    }
+
+    /**
+     * Applique la nouvelle valeur d'un effet (couleur, paramètre de rendu, son...)
+     */
+    public interface Consumer {
+        void onValueChanged(float value);
+    }
+
+    // Nombre de niveaux de lucidité (0 et 1 inclus)
+    public static final int BUCKETS = 256;
+
+    private float[][] tables = new float[4][];
+    private float[] values = new float[4];
+    private Consumer[] consumers = new Consumer[4];
+    private int effectCount;
+    private int currentBucket = -1;
+
+    /**
+     * Ajoute un effet et précalcule sa table
+     * @param curve Valeur de l'effet en fonction de la lucidité
+     * @return Identifiant de l'effet, à passer à get()
+     */
+    public int addEffect(Curve curve) {
+        return addEffect(curve, null);
+    }
+
+    /**
+     * Ajoute un effet appliqué par un consommateur : appelé tout de suite si la lucidité
+     * est déjà connue, puis à chaque changement de niveau qui modifie la valeur de l'effet
+     * @param curve Valeur de l'effet en fonction de la lucidité
+     * @param consumer Consommateur de la valeur, ou null
+     * @return Identifiant de l'effet, à passer à get()
+     */
+    public int addEffect(Curve curve, Consumer consumer) {
+        float[] table = new float[BUCKETS];
+        for (int bucket = 0; bucket < BUCKETS; bucket++) {
+            table[bucket] = curve.valueAt(bucket / (float) (BUCKETS - 1));
+        }
+
+        if (effectCount == tables.length) {
+            tables = Arrays.copyOf(tables, effectCount * 2);
+            values = Arrays.copyOf(values, effectCount * 2);
+            consumers = Arrays.copyOf(consumers, effectCount * 2);
+        }
+        int effect = effectCount++;
+        tables[effect] = table;
+        consumers[effect] = consumer;
+        if (currentBucket >= 0) {
+            values[effect] = table[currentBucket];
+            if (consumer != null) consumer.onValueChanged(values[effect]);
+        }
+        return effect;
+    }
+
+    /**
+     * Niveau de lucidité correspondant à une valeur de lucidité
+     */
+    public static int bucketOf(float lucidity) {
+        int bucket = Math.round(lucidity * (BUCKETS - 1));
+        return Math.max(0, Math.min(BUCKETS - 1, bucket));
+    }
+
+    /**
+     * Met à jour les effets pour une nouvelle lucidité
+     * @return true si la lucidité a changé de niveau (les valeurs des effets ont été relues)
+     */
+    public boolean update(float lucidity) {
+        int bucket = bucketOf(lucidity);
+        if (bucket == currentBucket) return false;
+        boolean first = currentBucket < 0;
+        currentBucket = bucket;
+        for (int effect = 0; effect < effectCount; effect++) {
+            float value = tables[effect][bucket];
+            // Les consommateurs ne sont prévenus que si la valeur de leur effet change
+            if (value == values[effect] && !first) continue;
+            values[effect] = value;
+            if (consumers[effect] != null) consumers[effect].onValueChanged(value);
+        }
+        return true;
+    }
+
+    /**
+     * Valeur courante d'un effet
+     */
+    public float get(int effect) {
+        return values[effect];
+    }
+
+    /**
+     * Effet de type interrupteur : actif si sa valeur dépasse 0,5
+     */
+    public boolean isOn(int effect) {
+        return values[effect] > 0.5f;
+    }
+
+    public int getEffectCount() {
+        return effectCount;
+    }
+}
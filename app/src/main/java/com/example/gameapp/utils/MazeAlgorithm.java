@@ -0,0 +1,57 @@
+package com.example.gameapp.utils;
+
+import java.util.Random;
+
+/**
+ * Algorithme de génération de labyrinthe parfait (un seul chemin entre deux cellules).
+ * La grille reçue est entièrement murée et mesure (2 x colonnes + 1) x (2 x lignes + 1) :
+ * les cellules logiques sont aux coordonnées impaires, les murs qui les séparent entre elles.
+ * Chaque algorithme a un identifiant stable, utilisé dans les graines (MazeSeed).
+ */
+public interface MazeAlgorithm {
+
+    int BACKTRACKER = 0;
+    int KRUSKAL = 1;
+    int PRIM = 2;
+    int WILSON = 3;
+    int ELLER = 4;
+    int BINARY_TREE = 5;
+    int SIDEWINDER = 6;
+
+    /**
+     * Creuse le labyrinthe dans la grille
+     * @param maze Grille entièrement murée
+     * @param random Seule source d'aléa : même graine, même labyrinthe
+     */
+    void carve(MazeGrid maze, Random random);
+
+    /**
+     * Identifiant stable de l'algorithme
+     */
+    int getId();
+
+    /**
+     * Algorithme correspondant à un identifiant
+     * @throws IllegalArgumentException si l'identifiant est inconnu
+     */
+    static MazeAlgorithm forId(int id) {
+        switch (id) {
+            case BACKTRACKER:
+                return new BacktrackerAlgorithm();
+            case KRUSKAL:
+                return new KruskalAlgorithm();
+            case PRIM:
+                return new PrimAlgorithm();
+            case WILSON:
+                return new WilsonAlgorithm();
+            case ELLER:
+                return new EllerAlgorithm();
+            case BINARY_TREE:
+                return new BinaryTreeAlgorithm();
+            case SIDEWINDER:
+                return new SidewinderAlgorithm();
+            default:
+                throw new IllegalArgumentException("Algorithme inconnu : " + id);
+        }
+    }
+}
@@ -4,71 +4,68 @@ import java.util.Random;
 
 public class MazeGenerator {
     private int width, height;
-    private int[][] maze;
-    private final int WALL = 1, PATH = 0;
-    private Random random = new Random();
+    private MazeGrid maze;
+    private final long seed;
+    private final Random random;
 
     public MazeGenerator(int width, int height) {
-        // Augmenter la taille pour avoir des allées larges
-        this.width = width * 2 + 1;  // Largeur du labyrinthe
-        this.height = height * 2 + 1; // Hauteur du labyrinthe
-        maze = new int[this.height][this.width];
-
-        // Initialiser le labyrinthe avec des murs partout
-        for (int i = 0; i < this.height; i++) {
-            for (int j = 0; j < this.width; j++) {
-                maze[i][j] = WALL;
-            }
-        }
+        this(width, height, new Random().nextLong());
+    }
 
-        // Générer le labyrinthe avec des allées plus larges
-        generateMaze(1, 1);
-        placeExit();
+    /**
+     * Génération reproductible : une même graine et les mêmes dimensions donnent toujours
+     * la même grille (l'algorithme de java.util.Random est fixé par sa spécification,
+     * identique sur toutes les JVM et sur Android)
+     * @param seed Graine du générateur aléatoire
+     */
+    public MazeGenerator(int width, int height, long seed) {
+        this(width, height, seed, new BacktrackerAlgorithm());
     }
 
-    private void generateMaze(int x, int y) {
-        maze[y][x] = PATH; // Marquer la cellule de départ comme un chemin
-        int[] directions = {0, 1, 2, 3};  // Haut, Droite, Bas, Gauche
-        shuffleArray(directions);
+    /**
+     * Génération reproductible avec un algorithme au choix
+     * @param seed Graine du générateur aléatoire
+     * @param algorithm Algorithme de génération (voir MazeAlgorithm.forId())
+     */
+    public MazeGenerator(int width, int height, long seed, MazeAlgorithm algorithm) {
+        this.seed = seed;
+        this.random = new Random(seed);
 
-        // Définir les mouvements à 2 cellules de largeur pour générer des chemins larges
-        int[] dx = {0, 2, 0, -2};  // Déplacer de 2 pour s'assurer d'avoir une largeur de 2
-        int[] dy = {-2, 0, 2, 0};  // Déplacer de 2 pour s'assurer d'avoir une largeur de 2
+        // Augmenter la taille pour avoir des allées larges
+        this.width = width * 2 + 1;  // Largeur du labyrinthe
+        this.height = height * 2 + 1; // Hauteur du labyrinthe
+        maze = new MazeGrid(this.width, this.height);
 
-        for (int i = 0; i < 4; i++) {
-            int nx = x + dx[directions[i]];
-            int ny = y + dy[directions[i]];
+        // Initialiser le labyrinthe avec des murs partout
+        maze.fill(true);
 
-            if (nx > 0 && ny > 0 && nx < width - 1 && ny < height - 1 && maze[ny][nx] == WALL) {
-                // Creuser un chemin large (2 cellules)
-                maze[y + dy[directions[i]] / 2][x + dx[directions[i]] / 2] = PATH; // Une cellule au milieu pour un passage de 2 cellules
-                maze[ny][nx] = PATH; // Marquer la nouvelle cellule comme un chemin
-                generateMaze(nx, ny);  // Appel récursif pour continuer à creuser
-            }
-        }
+        // Creuser le labyrinthe : une cellule logique sur deux, séparées par des murs
+        algorithm.carve(maze, random);
+        placeExit(maze);
     }
 
-    private void placeExit() {
-        // Placer la sortie en bas du labyrinthe
+    /**
+     * Place la sortie en bas du labyrinthe, sous la cellule de la dernière ligne la plus à droite
+     */
+    static void placeExit(MazeGrid maze) {
+        int width = maze.getWidth();
+        int height = maze.getHeight();
         for (int x = width - 2; x > 0; x--) {
-            if (maze[height - 2][x] == PATH) {
-                maze[height - 1][x] = PATH;  // Sortie
+            if (!maze.isWall(x, height - 2)) {
+                maze.setWall(x, height - 1, false);  // Sortie
                 return;
             }
         }
     }
 
-    private void shuffleArray(int[] array) {
-        // Mélanger les directions pour obtenir un labyrinthe aléatoire
-        for (int i = array.length - 1; i > 0; i--) {
-            int index = random.nextInt(i + 1);
-            int temp = array[index];
-            array[index] = array[i];
-            array[i] = temp;
-        }
+    public MazeGrid getMaze() {
+        return maze;
     }
 
-    public int[][] getMaze() {
-        return maze;
+    /**
+     * Graine utilisée, pour régénérer ce labyrinthe
+     */
+    public long getSeed() {
+        return seed;
     }
 }
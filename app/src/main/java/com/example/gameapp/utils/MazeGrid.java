@@ -0,0 +1,172 @@
+package com.example.gameapp.utils;
+
+import java.util.Arrays;
+
+/**
+ * Grille de labyrinthe compacte : un bit par cellule (1 = mur, 0 = passage).
+ * Les lignes sont stockées à la suite dans un seul tableau de long, chaque ligne
+ * étant alignée sur un mot de 64 bits pour permettre un accès direct par mot.
+ */
+public class MazeGrid implements MazeView {
+    private final int width;
+    private final int height;
+    private final int wordsPerRow;
+    private final long[] bits;
+
+    /**
+     * Crée une grille entièrement composée de passages
+     * @param width Largeur en cellules
+     * @param height Hauteur en cellules
+     */
+    public MazeGrid(int width, int height) {
+        if (width <= 0 || height <= 0) {
+            throw new IllegalArgumentException("Dimensions invalides : " + width + "x" + height);
+        }
+        this.width = width;
+        this.height = height;
+        this.wordsPerRow = (width + 63) >>> 6;
+        this.bits = new long[wordsPerRow * height];
+    }
+
+    /**
+     * Construit une grille à partir d'un tableau (1 = mur, 0 = passage)
+     * @param cells Tableau [ligne][colonne]
+     * @return La grille équivalente
+     */
+    public static MazeGrid fromArray(int[][] cells) {
+        MazeGrid grid = new MazeGrid(cells[0].length, cells.length);
+        for (int y = 0; y < grid.height; y++) {
+            for (int x = 0; x < grid.width; x++) {
+                if (cells[y][x] == 1) {
+                    grid.setWall(x, y, true);
+                }
+            }
+        }
+        return grid;
+    }
+
+    @Override
+    public int getWidth() {
+        return width;
+    }
+
+    @Override
+    public int getHeight() {
+        return height;
+    }
+
+    /**
+     * Indique si (x, y) est dans la grille
+     */
+    @Override
+    public boolean contains(int x, int y) {
+        return x >= 0 && x < width && y >= 0 && y < height;
+    }
+
+    /**
+     * Indique si la cellule est un mur. Les coordonnées doivent être dans la grille.
+     */
+    @Override
+    public boolean isWall(int x, int y) {
+        return (bits[y * wordsPerRow + (x >>> 6)] & (1L << x)) != 0;
+    }
+
+    /**
+     * Définit l'état d'une cellule
+     * @param wall true pour un mur, false pour un passage
+     */
+    public void setWall(int x, int y, boolean wall) {
+        int index = y * wordsPerRow + (x >>> 6);
+        if (wall) {
+            bits[index] |= 1L << x;
+        } else {
+            bits[index] &= ~(1L << x);
+        }
+    }
+
+    /**
+     * Nombre de mots de 64 bits par ligne
+     */
+    public int getWordsPerRow() {
+        return wordsPerRow;
+    }
+
+    /**
+     * Renvoie un mot de la ligne y : le bit i correspond à la colonne wordIndex * 64 + i.
+     * Les bits au-delà de la largeur sont toujours à 0.
+     */
+    public long getRowWord(int y, int wordIndex) {
+        return bits[y * wordsPerRow + wordIndex];
+    }
+
+    /**
+     * Remplace un mot de la ligne y (les bits hors de la grille sont ignorés)
+     */
+    public void setRowWord(int y, int wordIndex, long word) {
+        bits[y * wordsPerRow + wordIndex] = word & validMask(wordIndex);
+    }
+
+    /**
+     * Remplit toute la grille de murs ou de passages
+     * @param wall true pour des murs, false pour des passages
+     */
+    public void fill(boolean wall) {
+        if (!wall) {
+            Arrays.fill(bits, 0L);
+            return;
+        }
+        for (int y = 0; y < height; y++) {
+            for (int w = 0; w < wordsPerRow; w++) {
+                bits[y * wordsPerRow + w] = validMask(w);
+            }
+        }
+    }
+
+    /**
+     * Copie le contenu d'une grille de mêmes dimensions
+     */
+    public void copyFrom(MazeGrid other) {
+        if (other.width != width || other.height != height) {
+            throw new IllegalArgumentException("Dimensions différentes");
+        }
+        System.arraycopy(other.bits, 0, bits, 0, bits.length);
+    }
+
+    /**
+     * Crée une copie indépendante de la grille
+     */
+    public MazeGrid copy() {
+        MazeGrid copy = new MazeGrid(width, height);
+        copy.copyFrom(this);
+        return copy;
+    }
+
+    /**
+     * Compte le nombre de murs de la grille
+     */
+    public int countWalls() {
+        int count = 0;
+        for (long word : bits) {
+            count += Long.bitCount(word);
+        }
+        return count;
+    }
+
+    private long validMask(int wordIndex) {
+        int remaining = width - (wordIndex << 6);
+        return remaining >= 64 ? -1L : (1L << remaining) - 1;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (!(o instanceof MazeGrid)) return false;
+        MazeGrid other = (MazeGrid) o;
+        return width == other.width && height == other.height && Arrays.equals(bits, other.bits);
+    }
+
+    @Override
+    public int hashCode() {
+        return 31 * (31 * width + height) + Arrays.hashCode(bits);
+    }
+}
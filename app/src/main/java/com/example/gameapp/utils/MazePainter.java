@@ -3,11 +3,11 @@ package com.example.gameapp.utils;
 import android.content.Context;
 
 public class MazePainter {
-    public int[][] getLabyrinth() {
+    public MazeGrid getLabyrinth() {
         return labyrinth;
     }
 
-    private int[][] labyrinth;
+    private MazeGrid labyrinth;
 
 
     public MazePainter(Context context, int width, int height) {
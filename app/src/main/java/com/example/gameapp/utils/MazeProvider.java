@@ -0,0 +1,103 @@
+package com.example.gameapp.utils;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+
+/**
+ * Fournisseur de labyrinthes préparés à l'avance.
+ * Un thread de fond génère les prochains labyrinthes (avec leurs données dérivées) dans une
+ * file bornée ; démarrer une partie ne fait que retirer un labyrinthe prêt de la file.
+ * Si la file est vide, le labyrinthe est généré sur place, comme avant.
+ */
+public class MazeProvider {
+    private final int algorithm;
+    private final int width;
+    private final int height;
+    private final BlockingQueue<PreparedMaze> ready;
+
+    private Thread worker;
+
+    // Labyrinthes qu'il a fallu générer sur place, faute d'avance
+    private volatile int synchronousCount;
+
+    /**
+     * Labyrinthes générés par parcours en profondeur
+     * @param width Largeur des labyrinthes en cellules du générateur
+     * @param height Hauteur des labyrinthes en cellules du générateur
+     * @param capacity Nombre de labyrinthes gardés prêts
+     */
+    public MazeProvider(int width, int height, int capacity) {
+        this(MazeAlgorithm.BACKTRACKER, width, height, capacity);
+    }
+
+    /**
+     * @param algorithm Identifiant de l'algorithme de génération (MazeAlgorithm)
+     * @param width Largeur des labyrinthes en cellules du générateur
+     * @param height Hauteur des labyrinthes en cellules du générateur
+     * @param capacity Nombre de labyrinthes gardés prêts
+     */
+    public MazeProvider(int algorithm, int width, int height, int capacity) {
+        MazeAlgorithm.forId(algorithm); // Vérifie l'identifiant dès la construction
+        this.algorithm = algorithm;
+        this.width = width;
+        this.height = height;
+        this.ready = new ArrayBlockingQueue<>(capacity);
+    }
+
+    /**
+     * Démarre la génération en arrière-plan (sans effet si elle tourne déjà)
+     */
+    public synchronized void start() {
+        if (worker != null && worker.isAlive()) return;
+        worker = new Thread(this::fill, "MazeProvider");
+        worker.setDaemon(true);
+        worker.setPriority(Thread.MIN_PRIORITY);
+        worker.start();
+    }
+
+    /**
+     * Arrête la génération en arrière-plan ; les labyrinthes déjà prêts restent disponibles
+     */
+    public synchronized void stop() {
+        if (worker == null) return;
+        worker.interrupt();
+        worker = null;
+    }
+
+    // Remplit la file ; put() bloque tant qu'elle est pleine
+    private void fill() {
+        try {
+            while (!Thread.currentThread().isInterrupted()) {
+                ready.put(PreparedMaze.generate(algorithm, width, height));
+            }
+        } catch (InterruptedException e) {
+            // Arrêt demandé
+        }
+    }
+
+    /**
+     * Retire le prochain labyrinthe prêt, ou en génère un sur place si aucun ne l'est encore
+     */
+    public PreparedMaze take() {
+        PreparedMaze maze = ready.poll();
+        if (maze == null) {
+            synchronousCount++;
+            maze = PreparedMaze.generate(algorithm, width, height);
+        }
+        return maze;
+    }
+
+    /**
+     * Nombre de labyrinthes prêts dans la file
+     */
+    public int getReadyCount() {
+        return ready.size();
+    }
+
+    /**
+     * Nombre de labyrinthes générés sur place parce que la file était vide
+     */
+    public int getSynchronousCount() {
+        return synchronousCount;
+    }
+}
@@ -0,0 +1,86 @@
+package com.example.gameapp.utils;
+
+/**
+ * Fenêtre glissante sur un labyrinthe produit ligne par ligne (mode descente sans fin).
+ * Les lignes visibles sont gardées dans un tampon circulaire de hauteur fixe : faire défiler
+ * la fenêtre écrase les lignes sorties par le haut avec les nouvelles lignes du flux, sans
+ * copie ni allocation. La mémoire ne dépend donc pas de la durée de la partie.
+ * La ligne 0 de la vue est la plus ancienne ligne encore visible.
+ */
+public class MazeRowRing implements MazeView {
+    private final EllerRowStream stream;
+    private final MazeGrid rows;
+    private final int capacity;
+
+    // Ligne du tampon qui correspond à la ligne 0 de la vue
+    private int head;
+    // Nombre de lignes valides dans le tampon
+    private int count;
+    // Index absolu (depuis le début du flux) de la ligne 0 de la vue
+    private long firstRow;
+
+    /**
+     * Remplit la fenêtre avec les premières lignes du flux
+     * @param stream Flux de lignes du labyrinthe
+     * @param visibleRows Nombre de lignes gardées
+     */
+    public MazeRowRing(EllerRowStream stream, int visibleRows) {
+        this.stream = stream;
+        this.capacity = visibleRows;
+        this.rows = new MazeGrid(stream.getWidth(), visibleRows);
+        this.firstRow = stream.getRowsEmitted();
+        while (count < capacity && !stream.isFinished()) {
+            stream.nextRow(rows, count);
+            count++;
+        }
+    }
+
+    /**
+     * Fait défiler la fenêtre vers le bas : les lignes du haut sont remplacées par les suivantes du flux
+     * @param lines Nombre de lignes à faire défiler
+     * @return Nombre de lignes réellement défilées (moins si le flux est terminé)
+     */
+    public int scroll(int lines) {
+        int scrolled = 0;
+        while (scrolled < lines && !stream.isFinished()) {
+            // La ligne libérée en haut reçoit la nouvelle ligne du bas
+            stream.nextRow(rows, head);
+            head = head + 1 == capacity ? 0 : head + 1;
+            firstRow++;
+            scrolled++;
+        }
+        return scrolled;
+    }
+
+    /**
+     * Index absolu, depuis le début du flux, de la ligne 0 de la vue
+     */
+    public long getFirstRow() {
+        return firstRow;
+    }
+
+    @Override
+    public int getWidth() {
+        return rows.getWidth();
+    }
+
+    /**
+     * Nombre de lignes visibles (inférieur à la capacité seulement si le flux s'est terminé tôt)
+     */
+    @Override
+    public int getHeight() {
+        return count;
+    }
+
+    @Override
+    public boolean contains(int x, int y) {
+        return x >= 0 && y >= 0 && x < rows.getWidth() && y < count;
+    }
+
+    @Override
+    public boolean isWall(int x, int y) {
+        int row = head + y;
+        if (row >= capacity) row -= capacity;
+        return rows.isWall(x, row);
+    }
+}
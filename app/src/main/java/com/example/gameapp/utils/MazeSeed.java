@@ -0,0 +1,120 @@
+package com.example.gameapp.utils;
+
+import java.util.Locale;
+import java.util.Random;
+
+/**
+ * Description compacte et partageable d'un labyrinthe : algorithme, dimensions et graine.
+ * Régénérer la grille depuis ces quelques octets est plus rapide que de la sauvegarder
+ * et redonne exactement la même grille, quel que soit l'appareil.
+ *
+ * Format texte : algorithme (1 caractère) suivi de la largeur, "-", hauteur, "-", graine,
+ * le tout en base 36 majuscule. Exemple : "0A-A-2KQ4W1Z9M0B7".
+ */
+public final class MazeSeed {
+
+    private static final int RADIX = 36;
+    // Côté maximal en cellules : une graine partagée ne doit pas pouvoir épuiser la mémoire
+    public static final int MAX_SIZE = 2048;
+
+    private final int algorithm;
+    private final int width;
+    private final int height;
+    private final long seed;
+
+    /**
+     * @param algorithm Identifiant de l'algorithme de génération (MazeAlgorithm, 0 à 35)
+     * @param width Largeur en cellules du générateur (1 à MAX_SIZE)
+     * @param height Hauteur en cellules du générateur (1 à MAX_SIZE)
+     * @param seed Graine du générateur aléatoire
+     */
+    public MazeSeed(int algorithm, int width, int height, long seed) {
+        if (algorithm < 0 || algorithm >= RADIX) {
+            throw new IllegalArgumentException("Algorithme invalide : " + algorithm);
+        }
+        if (width <= 0 || height <= 0 || width > MAX_SIZE || height > MAX_SIZE) {
+            throw new IllegalArgumentException("Dimensions invalides : " + width + "x" + height);
+        }
+        this.algorithm = algorithm;
+        this.width = width;
+        this.height = height;
+        this.seed = seed;
+    }
+
+    /**
+     * Graine tirée au hasard, pour un nouveau labyrinthe
+     */
+    public static MazeSeed random(int algorithm, int width, int height) {
+        return new MazeSeed(algorithm, width, height, new Random().nextLong());
+    }
+
+    /**
+     * Relit une graine au format texte (insensible à la casse)
+     * @throws IllegalArgumentException si le texte est mal formé
+     */
+    public static MazeSeed parse(String text) {
+        String[] parts = text.trim().toUpperCase(Locale.ROOT).split("-", -1);
+        if (parts.length != 3 || parts[0].length() < 2 || parts[1].isEmpty() || parts[2].isEmpty()) {
+            throw new IllegalArgumentException("Graine mal formée : " + text);
+        }
+        try {
+            int algorithm = Character.digit(parts[0].charAt(0), RADIX);
+            int width = Integer.parseInt(parts[0].substring(1), RADIX);
+            int height = Integer.parseInt(parts[1], RADIX);
+            long seed = Long.parseUnsignedLong(parts[2], RADIX);
+            return new MazeSeed(algorithm, width, height, seed);
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Graine mal formée : " + text, e);
+        }
+    }
+
+    /**
+     * Génère la grille décrite par cette graine
+     * @throws IllegalArgumentException si l'algorithme est inconnu
+     */
+    public MazeGrid generate() {
+        return new MazeGenerator(width, height, seed, MazeAlgorithm.forId(algorithm)).getMaze();
+    }
+
+    public int getAlgorithm() {
+        return algorithm;
+    }
+
+    public int getWidth() {
+        return width;
+    }
+
+    public int getHeight() {
+        return height;
+    }
+
+    public long getSeed() {
+        return seed;
+    }
+
+    @Override
+    public String toString() {
+        return (Character.forDigit(algorithm, RADIX)
+                + Integer.toString(width, RADIX) + "-"
+                + Integer.toString(height, RADIX) + "-"
+                + Long.toUnsignedString(seed, RADIX)).toUpperCase(Locale.ROOT);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (!(o instanceof MazeSeed)) return false;
+        MazeSeed other = (MazeSeed) o;
+        return algorithm == other.algorithm && width == other.width
+                && height == other.height && seed == other.seed;
+    }
+
+    @Override
+    public int hashCode() {
+        int result = algorithm;
+        result = 31 * result + width;
+        result = 31 * result + height;
+        result = 31 * result + Long.hashCode(seed);
+        return result;
+    }
+}
@@ -0,0 +1,26 @@
+package com.example.gameapp.utils;
+
+/**
+ * Accès en lecture aux cellules d'un labyrinthe (1 = mur, 0 = passage)
+ */
+public interface MazeView {
+    /**
+     * Largeur en cellules
+     */
+    int getWidth();
+
+    /**
+     * Hauteur en cellules
+     */
+    int getHeight();
+
+    /**
+     * Indique si (x, y) est dans la grille
+     */
+    boolean contains(int x, int y);
+
+    /**
+     * Indique si la cellule est un mur. Les coordonnées doivent être dans la grille.
+     */
+    boolean isWall(int x, int y);
+}
@@ -0,0 +1,114 @@
+package com.example.gameapp.utils;
+
+/**
+ * Labyrinthe prêt à jouer : la grille et toutes les données qui en dérivent
+ * (vue pivotante, champ de distance, rectangles de murs, position de la sortie).
+ * Tout est calculé à la construction, qui peut donc se faire hors du thread de l'interface.
+ */
+public class PreparedMaze {
+    private final MazeSeed seed;
+    private final MazeGrid grid;
+    private final RotatedMazeView view;
+    private final DistanceField distanceField;
+    private final WallRectangles wallRectangles;
+    private final int exitX;
+    private final int exitY;
+
+    /**
+     * Prépare un labyrinthe existant
+     */
+    public PreparedMaze(MazeGrid grid) {
+        this(null, grid);
+    }
+
+    /**
+     * Régénère et prépare le labyrinthe décrit par une graine
+     */
+    public PreparedMaze(MazeSeed seed) {
+        this(seed, seed.generate());
+    }
+
+    private PreparedMaze(MazeSeed seed, MazeGrid grid) {
+        this.seed = seed;
+        this.grid = grid;
+        this.view = new RotatedMazeView(grid);
+        this.distanceField = new DistanceField(view);
+        this.wallRectangles = new WallRectangles(grid);
+
+        // Sortie au coin opposé de l'entrée (en haut à gauche), ou le passage le plus proche
+        int x = grid.getWidth() - 1;
+        int y = grid.getHeight() - 1;
+        if (grid.isWall(x, y)) {
+            for (int i = 1; i < Math.max(grid.getHeight(), grid.getWidth()); i++) {
+                // Vérifier horizontalement à gauche
+                if (x - i >= 0 && !grid.isWall(x - i, y)) {
+                    x = x - i;
+                    break;
+                }
+                // Vérifier verticalement en haut
+                if (y - i >= 0 && !grid.isWall(x, y - i)) {
+                    y = y - i;
+                    break;
+                }
+                // Vérifier diagonalement
+                if (x - i >= 0 && y - i >= 0 && !grid.isWall(x - i, y - i)) {
+                    x = x - i;
+                    y = y - i;
+                    break;
+                }
+            }
+        }
+        this.exitX = x;
+        this.exitY = y;
+    }
+
+    /**
+     * Génère et prépare un nouveau labyrinthe
+     * @param algorithm Identifiant de l'algorithme de génération (MazeAlgorithm)
+     * @param width Largeur du labyrinthe en cellules du générateur
+     * @param height Hauteur du labyrinthe en cellules du générateur
+     */
+    public static PreparedMaze generate(int algorithm, int width, int height) {
+        return new PreparedMaze(MazeSeed.random(algorithm, width, height));
+    }
+
+    /**
+     * Graine du labyrinthe, ou null s'il a été fourni directement sous forme de grille
+     */
+    public MazeSeed getSeed() {
+        return seed;
+    }
+
+    public MazeGrid getGrid() {
+        return grid;
+    }
+
+    /**
+     * Vue pivotante propre à ce labyrinthe, orientation d'origine
+     */
+    public RotatedMazeView getView() {
+        return view;
+    }
+
+    public DistanceField getDistanceField() {
+        return distanceField;
+    }
+
+    public WallRectangles getWallRectangles() {
+        return wallRectangles;
+    }
+
+    /**
+     * Colonne de la sortie, dans l'orientation d'origine
+     */
+    public int getExitX() {
+        return exitX;
+    }
+
+    /**
+     * Ligne de la sortie, dans l'orientation d'origine
+     */
+    public int getExitY() {
+        return exitY;
+    }
+}
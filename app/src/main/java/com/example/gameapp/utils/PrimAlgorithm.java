@@ -0,0 +1,76 @@
+package com.example.gameapp.utils;
+
+import java.util.Random;
+
+/**
+ * Algorithme de Prim aléatoire : le labyrinthe grandit depuis une cellule en rattachant
+ * à chaque étape une cellule tirée au hasard dans sa frontière. Temps linéaire,
+ * couloirs courts rayonnant autour du point de départ.
+ */
+public class PrimAlgorithm implements MazeAlgorithm {
+    private static final byte OUTSIDE = 0;
+    private static final byte FRONTIER = 1;
+    private static final byte INSIDE = 2;
+
+    @Override
+    public void carve(MazeGrid maze, Random random) {
+        int cellsX = (maze.getWidth() - 1) / 2;
+        int cellsY = (maze.getHeight() - 1) / 2;
+        int cells = cellsX * cellsY;
+
+        byte[] state = new byte[cells];
+        int[] frontier = new int[cells];
+        int frontierCount = 0;
+        int[] candidates = new int[4];
+
+        int start = random.nextInt(cells);
+        state[start] = INSIDE;
+        maze.setWall(2 * (start % cellsX) + 1, 2 * (start / cellsX) + 1, false);
+        frontierCount = addNeighbours(start, cellsX, cellsY, state, frontier, frontierCount);
+
+        while (frontierCount > 0) {
+            // Retirer une cellule de la frontière au hasard (échange avec la dernière)
+            int index = random.nextInt(frontierCount);
+            int cell = frontier[index];
+            frontier[index] = frontier[--frontierCount];
+
+            int cx = cell % cellsX;
+            int cy = cell / cellsX;
+
+            // La rattacher à l'une de ses voisines déjà dans le labyrinthe
+            int count = 0;
+            if (cx > 0 && state[cell - 1] == INSIDE) candidates[count++] = cell - 1;
+            if (cx + 1 < cellsX && state[cell + 1] == INSIDE) candidates[count++] = cell + 1;
+            if (cy > 0 && state[cell - cellsX] == INSIDE) candidates[count++] = cell - cellsX;
+            if (cy + 1 < cellsY && state[cell + cellsX] == INSIDE) candidates[count++] = cell + cellsX;
+            int neighbour = candidates[random.nextInt(count)];
+
+            state[cell] = INSIDE;
+            maze.setWall(2 * cx + 1, 2 * cy + 1, false);
+            maze.setWall(cx + neighbour % cellsX + 1, cy + neighbour / cellsX + 1, false);
+            frontierCount = addNeighbours(cell, cellsX, cellsY, state, frontier, frontierCount);
+        }
+    }
+
+    private static int addNeighbours(int cell, int cellsX, int cellsY, byte[] state, int[] frontier, int count) {
+        int cx = cell % cellsX;
+        int cy = cell / cellsX;
+        if (cx > 0) count = addFrontier(cell - 1, state, frontier, count);
+        if (cx + 1 < cellsX) count = addFrontier(cell + 1, state, frontier, count);
+        if (cy > 0) count = addFrontier(cell - cellsX, state, frontier, count);
+        if (cy + 1 < cellsY) count = addFrontier(cell + cellsX, state, frontier, count);
+        return count;
+    }
+
+    private static int addFrontier(int cell, byte[] state, int[] frontier, int count) {
+        if (state[cell] != OUTSIDE) return count;
+        state[cell] = FRONTIER;
+        frontier[count] = cell;
+        return count + 1;
+    }
+
+    @Override
+    public int getId() {
+        return PRIM;
+    }
+}
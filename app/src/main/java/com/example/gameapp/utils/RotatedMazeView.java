@@ -0,0 +1,116 @@
+package com.example.gameapp.utils;
+
+/**
+ * Vue pivotée d'une grille de labyrinthe, sans copie des cellules.
+ * Les coordonnées de la vue sont converties en coordonnées de la grille
+ * d'origine par une transformation affine recalculée à chaque changement
+ * d'orientation : changer d'orientation coûte donc O(1).
+ */
+public class RotatedMazeView implements MazeView {
+    private final MazeGrid base;
+    private int rotation;
+
+    // baseX = xx * x + xy * y + x0, baseY = yx * x + yy * y + y0
+    private int xx, xy, x0;
+    private int yx, yy, y0;
+    private int width, height;
+
+    /**
+     * @param base La grille d'origine (rotation 0)
+     */
+    public RotatedMazeView(MazeGrid base) {
+        this.base = base;
+        setRotation(0);
+    }
+
+    public MazeGrid getBase() {
+        return base;
+    }
+
+    public int getRotation() {
+        return rotation;
+    }
+
+    /**
+     * Change l'orientation de la vue
+     * @param rotations Nombre de quarts de tour dans le sens horaire (0-3)
+     */
+    public void setRotation(int rotations) {
+        rotation = ((rotations % 4) + 4) % 4;
+        int w = base.getWidth();
+        int h = base.getHeight();
+
+        switch (rotation) {
+            case 0:
+                xx = 1;  xy = 0;  x0 = 0;
+                yx = 0;  yy = 1;  y0 = 0;
+                break;
+            case 1: // 90° dans le sens horaire
+                xx = 0;  xy = 1;  x0 = 0;
+                yx = -1; yy = 0;  y0 = h - 1;
+                break;
+            case 2: // 180°
+                xx = -1; xy = 0;  x0 = w - 1;
+                yx = 0;  yy = -1; y0 = h - 1;
+                break;
+            default: // 270° dans le sens horaire
+                xx = 0;  xy = -1; x0 = w - 1;
+                yx = 1;  yy = 0;  y0 = 0;
+                break;
+        }
+
+        // Les quarts de tour échangent largeur et hauteur
+        boolean quarterTurn = (rotation & 1) == 1;
+        width = quarterTurn ? h : w;
+        height = quarterTurn ? w : h;
+    }
+
+    @Override
+    public int getWidth() {
+        return width;
+    }
+
+    @Override
+    public int getHeight() {
+        return height;
+    }
+
+    @Override
+    public boolean contains(int x, int y) {
+        return x >= 0 && x < width && y >= 0 && y < height;
+    }
+
+    @Override
+    public boolean isWall(int x, int y) {
+        return base.isWall(toBaseX(x, y), toBaseY(x, y));
+    }
+
+    /**
+     * Colonne dans la grille d'origine de la cellule (x, y) de la vue
+     */
+    public int toBaseX(int x, int y) {
+        return xx * x + xy * y + x0;
+    }
+
+    /**
+     * Ligne dans la grille d'origine de la cellule (x, y) de la vue
+     */
+    public int toBaseY(int x, int y) {
+        return yx * x + yy * y + y0;
+    }
+
+    /**
+     * Colonne dans la vue de la cellule (baseX, baseY) de la grille d'origine
+     */
+    public int fromBaseX(int baseX, int baseY) {
+        // La transformation est une rotation : son inverse est sa transposée
+        return xx * (baseX - x0) + yx * (baseY - y0);
+    }
+
+    /**
+     * Ligne dans la vue de la cellule (baseX, baseY) de la grille d'origine
+     */
+    public int fromBaseY(int baseX, int baseY) {
+        return xy * (baseX - x0) + yy * (baseY - y0);
+    }
+}
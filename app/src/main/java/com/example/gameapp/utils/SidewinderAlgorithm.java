@@ -0,0 +1,41 @@
+package com.example.gameapp.utils;
+
+import java.util.Random;
+
+/**
+ * Sidewinder : chaque ligne est découpée en segments horizontaux de longueur aléatoire,
+ * chacun relié à la ligne du dessus par une seule ouverture. Aussi rapide que l'arbre
+ * binaire, avec un seul biais : la première ligne est un couloir droit.
+ */
+public class SidewinderAlgorithm implements MazeAlgorithm {
+
+    @Override
+    public void carve(MazeGrid maze, Random random) {
+        int cellsX = (maze.getWidth() - 1) / 2;
+        int cellsY = (maze.getHeight() - 1) / 2;
+
+        for (int cy = 0; cy < cellsY; cy++) {
+            int gy = 2 * cy + 1;
+            int runStart = 0;
+            for (int cx = 0; cx < cellsX; cx++) {
+                maze.setWall(2 * cx + 1, gy, false);
+
+                // Prolonger le segment vers la droite, ou le refermer (toujours prolongé sur la première ligne)
+                boolean extend = cx + 1 < cellsX && (cy == 0 || random.nextBoolean());
+                if (extend) {
+                    maze.setWall(2 * cx + 2, gy, false);
+                } else if (cy > 0) {
+                    // Une seule ouverture vers le haut, dans une cellule au hasard du segment
+                    int up = runStart + random.nextInt(cx - runStart + 1);
+                    maze.setWall(2 * up + 1, gy - 1, false);
+                    runStart = cx + 1;
+                }
+            }
+        }
+    }
+
+    @Override
+    public int getId() {
+        return SIDEWINDER;
+    }
+}
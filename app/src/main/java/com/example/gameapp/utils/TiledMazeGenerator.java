@@ -0,0 +1,186 @@
+package com.example.gameapp.utils;
+
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * Génération parallèle des très grands labyrinthes.
+ * La grille est découpée en tuiles creusées indépendamment sur un ForkJoinPool, chacune
+ * avec sa propre graine dérivée de la graine du labyrinthe : le résultat ne dépend pas
+ * du nombre de threads. Chaque tuile étant un labyrinthe parfait, il suffit ensuite d'ouvrir
+ * un seul passage par arête d'un arbre couvrant aléatoire du graphe des tuiles pour que
+ * l'ensemble reste parfait.
+ * La largeur des tuiles est un multiple de 32 cellules, soit 64 colonnes de la grille :
+ * chaque tuile n'écrit que dans ses propres mots de 64 bits de MazeGrid, sans verrou.
+ */
+public class TiledMazeGenerator {
+
+    // Largeur d'un mot de MazeGrid, en cellules logiques
+    public static final int TILE_ALIGNMENT = 32;
+
+    private final MazeAlgorithm tileAlgorithm;
+    private final int tileCells;
+    private final ForkJoinPool pool;
+
+    /**
+     * @param tileAlgorithm Algorithme utilisé dans chaque tuile
+     * @param tileCells Côté d'une tuile en cellules logiques, multiple de TILE_ALIGNMENT
+     * @param pool Threads de génération
+     */
+    public TiledMazeGenerator(MazeAlgorithm tileAlgorithm, int tileCells, ForkJoinPool pool) {
+        if (tileCells <= 0 || tileCells % TILE_ALIGNMENT != 0) {
+            throw new IllegalArgumentException("Taille de tuile invalide : " + tileCells);
+        }
+        this.tileAlgorithm = tileAlgorithm;
+        this.tileCells = tileCells;
+        this.pool = pool;
+    }
+
+    /**
+     * Génère un labyrinthe parfait avec sa sortie, même disposition que MazeGenerator
+     * @param width Largeur en cellules logiques
+     * @param height Hauteur en cellules logiques
+     * @param seed Graine du labyrinthe
+     */
+    public MazeGrid generate(int width, int height, long seed) {
+        MazeGrid maze = new MazeGrid(2 * width + 1, 2 * height + 1);
+        maze.fill(true);
+
+        int tilesX = (width + tileCells - 1) / tileCells;
+        int tilesY = (height + tileCells - 1) / tileCells;
+        pool.invoke(new CarveTiles(maze, width, height, tilesX, seed, 0, tilesX * tilesY));
+
+        stitch(maze, width, height, tilesX, tilesY, new Random(seed));
+        MazeGenerator.placeExit(maze);
+        return maze;
+    }
+
+    /**
+     * Creuse les tuiles [from, to), en coupant l'intervalle en deux tant qu'il en contient plusieurs
+     */
+    private final class CarveTiles extends RecursiveAction {
+        private static final long serialVersionUID = 1L;
+
+        private final MazeGrid maze;
+        private final int width;
+        private final int height;
+        private final int tilesX;
+        private final long seed;
+        private final int from;
+        private final int to;
+
+        CarveTiles(MazeGrid maze, int width, int height, int tilesX, long seed, int from, int to) {
+            this.maze = maze;
+            this.width = width;
+            this.height = height;
+            this.tilesX = tilesX;
+            this.seed = seed;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from == 1) {
+                carveTile(maze, width, height, tilesX, seed, from);
+                return;
+            }
+            int middle = (from + to) >>> 1;
+            invokeAll(new CarveTiles(maze, width, height, tilesX, seed, from, middle),
+                    new CarveTiles(maze, width, height, tilesX, seed, middle, to));
+        }
+    }
+
+    /**
+     * Creuse une tuile dans sa propre grille puis recopie ses lignes intérieures mot par mot.
+     * Les lignes et colonnes de bord entre tuiles restent murées jusqu'à la couture.
+     */
+    private void carveTile(MazeGrid maze, int width, int height, int tilesX, long seed, int tile) {
+        int cellX = (tile % tilesX) * tileCells;
+        int cellY = (tile / tilesX) * tileCells;
+        int cellsX = Math.min(tileCells, width - cellX);
+        int cellsY = Math.min(tileCells, height - cellY);
+
+        MazeGrid tileGrid = new MazeGrid(2 * cellsX + 1, 2 * cellsY + 1);
+        tileGrid.fill(true);
+        tileAlgorithm.carve(tileGrid, new Random(tileSeed(seed, tile)));
+
+        // La colonne 0 de la tuile tombe au début d'un mot de la grille (2 x cellX multiple de 64)
+        int firstWord = 2 * cellX / 64;
+        int words = (2 * cellsX + 63) / 64;
+        for (int y = 1; y < tileGrid.getHeight() - 1; y++) {
+            for (int w = 0; w < words; w++) {
+                maze.setRowWord(2 * cellY + y, firstWord + w, tileGrid.getRowWord(y, w));
+            }
+        }
+    }
+
+    /**
+     * Graine propre à une tuile (mélange de type SplitMix64)
+     */
+    private static long tileSeed(long seed, int tile) {
+        long z = seed + (tile + 1) * 0x9E3779B97F4A7C15L;
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+
+    /**
+     * Relie les tuiles : arbre couvrant aléatoire (Kruskal) sur le graphe des tuiles,
+     * un passage ouvert au hasard le long de chaque frontière retenue
+     */
+    private void stitch(MazeGrid maze, int width, int height, int tilesX, int tilesY, Random random) {
+        int tiles = tilesX * tilesY;
+        if (tiles == 1) return;
+
+        // Frontières : tuile * 2 (avec la tuile de droite) ou tuile * 2 + 1 (avec celle du dessous)
+        int[] edges = new int[2 * tiles];
+        int edgeCount = 0;
+        for (int tile = 0; tile < tiles; tile++) {
+            if (tile % tilesX + 1 < tilesX) edges[edgeCount++] = tile * 2;
+            if (tile / tilesX + 1 < tilesY) edges[edgeCount++] = tile * 2 + 1;
+        }
+        for (int i = edgeCount - 1; i > 0; i--) {
+            int j = random.nextInt(i + 1);
+            int edge = edges[i];
+            edges[i] = edges[j];
+            edges[j] = edge;
+        }
+
+        int[] parent = new int[tiles];
+        for (int tile = 0; tile < tiles; tile++) {
+            parent[tile] = tile;
+        }
+        for (int i = 0; i < edgeCount; i++) {
+            int tile = edges[i] >> 1;
+            boolean horizontal = (edges[i] & 1) == 0;
+            int a = find(parent, tile);
+            int b = find(parent, horizontal ? tile + 1 : tile + tilesX);
+            if (a == b) continue;
+            parent[b] = a;
+
+            int cellX = (tile % tilesX) * tileCells;
+            int cellY = (tile / tilesX) * tileCells;
+            if (horizontal) {
+                // Mur vertical entre la dernière colonne de la tuile et la première de sa voisine
+                int rows = Math.min(tileCells, height - cellY);
+                int cy = cellY + random.nextInt(rows);
+                maze.setWall(2 * (cellX + tileCells), 2 * cy + 1, false);
+            } else {
+                // Mur horizontal entre la dernière ligne de la tuile et la première de sa voisine
+                int columns = Math.min(tileCells, width - cellX);
+                int cx = cellX + random.nextInt(columns);
+                maze.setWall(2 * cx + 1, 2 * (cellY + tileCells), false);
+            }
+        }
+    }
+
+    private static int find(int[] parent, int tile) {
+        while (parent[tile] != tile) {
+            parent[tile] = parent[parent[tile]];
+            tile = parent[tile];
+        }
+        return tile;
+    }
+}
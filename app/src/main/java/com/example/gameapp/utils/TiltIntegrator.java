@@ -0,0 +1,114 @@
+package com.example.gameapp.utils;
+
+/**
+ * Intègre l'inclinaison mesurée par l'accéléromètre sur le temps réel de ses mesures.
+ * Chaque mesure est tenue constante jusqu'à la suivante (d'après SensorEvent.timestamp) et
+ * chaque pas de simulation reçoit l'intégrale de l'inclinaison sur son intervalle de temps :
+ * l'effet ne dépend plus du nombre de mesures livrées par seconde.
+ * Les mesures livrées en retard (regroupées par le capteur) corrigent après coup
+ * l'intégrale des pas déjà calculés, si bien que le total reste exact.
+ */
+public class TiltIntegrator implements InputRing.SampleHandler {
+    private final long stepNanos;
+    // Écart maximal toléré entre l'horloge de simulation et l'horloge des capteurs
+    private final long maxLagNanos;
+
+    // Instant jusqu'auquel l'inclinaison a été intégrée (horloge des capteurs), -1 au départ
+    private long positionNanos = -1;
+    // Dernière mesure reçue, tenue constante
+    private float heldX;
+    private float heldY;
+    // Intégrale du pas en cours, en (unité de mesure x ns)
+    private double impulseX;
+    private double impulseY;
+
+    /**
+     * @param stepNanos Durée d'un pas de simulation
+     * @param maxLagNanos Décalage au-delà duquel l'horloge de simulation est recalée
+     *                    (doit dépasser la latence de regroupement du capteur)
+     */
+    public TiltIntegrator(long stepNanos, long maxLagNanos) {
+        this.stepNanos = stepNanos;
+        this.maxLagNanos = maxLagNanos;
+    }
+
+    /**
+     * Oublie la position et la mesure courantes (reprise après une pause)
+     */
+    public void reset() {
+        positionNanos = -1;
+        heldX = 0;
+        heldY = 0;
+    }
+
+    /**
+     * Avance d'un pas de simulation en consommant les mesures de la file jusqu'à la fin du pas
+     * @param ring File des mesures de l'accéléromètre
+     * @param nowNanos Instant courant sur l'horloge des capteurs, pour rester calé dessus
+     */
+    public void advance(InputRing ring, long nowNanos) {
+        impulseX = 0;
+        impulseY = 0;
+
+        long stepEnd;
+        if (positionNanos < 0 || Math.abs(positionNanos + stepNanos - nowNanos) > maxLagNanos) {
+            // Premier pas ou horloges trop éloignées : repartir de l'instant courant
+            positionNanos = nowNanos - stepNanos;
+        }
+        stepEnd = positionNanos + stepNanos;
+
+        ring.drain(this, stepEnd);
+        accumulate(stepEnd - positionNanos);
+        positionNanos = stepEnd;
+    }
+
+    @Override
+    public void onSample(long sequence, float x, float y, long timestampNanos) {
+        if (timestampNanos >= positionNanos) {
+            // Mesure dans le pas courant : l'ancienne valeur vaut jusqu'à elle
+            accumulate(timestampNanos - positionNanos);
+            positionNanos = timestampNanos;
+        } else {
+            // Mesure en retard : corriger la part déjà intégrée avec l'ancienne valeur
+            long late = Math.min(positionNanos - timestampNanos, maxLagNanos);
+            impulseX += (double) (x - heldX) * late;
+            impulseY += (double) (y - heldY) * late;
+        }
+        heldX = x;
+        heldY = y;
+    }
+
+    private void accumulate(long durationNanos) {
+        impulseX += (double) heldX * durationNanos;
+        impulseY += (double) heldY * durationNanos;
+    }
+
+    /**
+     * Inclinaison X intégrée sur le dernier pas, exprimée en pas :
+     * une inclinaison constante a donne a
+     */
+    public float getStepTiltX() {
+        return (float) (impulseX / stepNanos);
+    }
+
+    /**
+     * Inclinaison Y intégrée sur le dernier pas, exprimée en pas
+     */
+    public float getStepTiltY() {
+        return (float) (impulseY / stepNanos);
+    }
+
+    /**
+     * Dernière mesure X reçue
+     */
+    public float getHeldX() {
+        return heldX;
+    }
+
+    /**
+     * Dernière mesure Y reçue
+     */
+    public float getHeldY() {
+        return heldY;
+    }
+}
@@ -0,0 +1,200 @@
+package com.example.gameapp.utils;
+
+import java.util.Arrays;
+
+/**
+ * Murs d'un labyrinthe regroupés en rectangles alignés sur la grille.
+ * Les cellules de mur contiguës sont fusionnées une seule fois par labyrinthe
+ * (fusion gloutonne : extension vers la droite puis vers le bas), ce qui donne
+ * beaucoup moins de primitives à dessiner ou à tester que de cellules.
+ * Les rectangles sont rangés dans des tableaux compacts (coordonnées en cellules,
+ * bornes droite et basse exclues) et indexés par une grille uniforme de seaux.
+ */
+public class WallRectangles {
+    // Côté d'un seau de l'index, en cellules
+    private static final int BUCKET_SIZE = 8;
+
+    private final MazeGrid maze;
+    private final int count;
+    private final int wallCellCount;
+    private final int[] left;
+    private final int[] top;
+    private final int[] right;
+    private final int[] bottom;
+
+    // Index uniforme : les rectangles du seau b sont bucketItems[bucketStart[b] .. bucketStart[b + 1]]
+    private final int bucketCols;
+    private final int[] bucketStart;
+    private final int[] bucketItems;
+
+    // Marquage des rectangles déjà rendus par une requête (évite les doublons entre seaux)
+    private final int[] queryStamp;
+    private int stamp;
+
+    /**
+     * Fusionne les murs de la grille
+     * @param maze Grille du labyrinthe
+     */
+    public WallRectangles(MazeGrid maze) {
+        this.maze = maze;
+        int width = maze.getWidth();
+        int height = maze.getHeight();
+
+        // Au plus un rectangle par cellule de mur : tableaux tronqués ensuite
+        int walls = maze.countWalls();
+        int[] l = new int[walls];
+        int[] t = new int[walls];
+        int[] r = new int[walls];
+        int[] b = new int[walls];
+        boolean[] covered = new boolean[width * height];
+        int n = 0;
+
+        for (int y = 0; y < height; y++) {
+            for (int x = 0; x < width; x++) {
+                if (covered[y * width + x] || !maze.isWall(x, y)) continue;
+
+                // Étendre vers la droite tant que les cellules sont des murs libres
+                int endX = x + 1;
+                while (endX < width && !covered[y * width + endX] && maze.isWall(endX, y)) {
+                    endX++;
+                }
+
+                // Étendre vers le bas tant que toute la bande est faite de murs libres
+                int endY = y + 1;
+                while (endY < height && isFreeWallSpan(covered, x, endX, endY)) {
+                    endY++;
+                }
+
+                for (int j = y; j < endY; j++) {
+                    for (int i = x; i < endX; i++) {
+                        covered[j * width + i] = true;
+                    }
+                }
+                l[n] = x;
+                t[n] = y;
+                r[n] = endX;
+                b[n] = endY;
+                n++;
+            }
+        }
+
+        this.count = n;
+        this.wallCellCount = walls;
+        this.left = Arrays.copyOf(l, n);
+        this.top = Arrays.copyOf(t, n);
+        this.right = Arrays.copyOf(r, n);
+        this.bottom = Arrays.copyOf(b, n);
+
+        // Index : compter les rectangles par seau, puis les ranger (stockage compact)
+        bucketCols = (width + BUCKET_SIZE - 1) / BUCKET_SIZE;
+        int bucketRows = (height + BUCKET_SIZE - 1) / BUCKET_SIZE;
+        bucketStart = new int[bucketCols * bucketRows + 1];
+        for (int i = 0; i < n; i++) {
+            for (int by = top[i] / BUCKET_SIZE; by <= (bottom[i] - 1) / BUCKET_SIZE; by++) {
+                for (int bx = left[i] / BUCKET_SIZE; bx <= (right[i] - 1) / BUCKET_SIZE; bx++) {
+                    bucketStart[by * bucketCols + bx + 1]++;
+                }
+            }
+        }
+        for (int i = 1; i < bucketStart.length; i++) {
+            bucketStart[i] += bucketStart[i - 1];
+        }
+        bucketItems = new int[bucketStart[bucketStart.length - 1]];
+        int[] fill = Arrays.copyOf(bucketStart, bucketStart.length - 1);
+        for (int i = 0; i < n; i++) {
+            for (int by = top[i] / BUCKET_SIZE; by <= (bottom[i] - 1) / BUCKET_SIZE; by++) {
+                for (int bx = left[i] / BUCKET_SIZE; bx <= (right[i] - 1) / BUCKET_SIZE; bx++) {
+                    bucketItems[fill[by * bucketCols + bx]++] = i;
+                }
+            }
+        }
+        queryStamp = new int[n];
+    }
+
+    private boolean isFreeWallSpan(boolean[] covered, int fromX, int toX, int y) {
+        int width = maze.getWidth();
+        for (int x = fromX; x < toX; x++) {
+            if (covered[y * width + x] || !maze.isWall(x, y)) return false;
+        }
+        return true;
+    }
+
+    /**
+     * Grille dont les murs ont été fusionnés
+     */
+    public MazeGrid getMaze() {
+        return maze;
+    }
+
+    /**
+     * Nombre de rectangles
+     */
+    public int getCount() {
+        return count;
+    }
+
+    /**
+     * Nombre de cellules de mur couvertes par les rectangles
+     */
+    public int getWallCellCount() {
+        return wallCellCount;
+    }
+
+    public int getLeft(int index) {
+        return left[index];
+    }
+
+    public int getTop(int index) {
+        return top[index];
+    }
+
+    /**
+     * Borne droite (exclue) du rectangle
+     */
+    public int getRight(int index) {
+        return right[index];
+    }
+
+    /**
+     * Borne basse (exclue) du rectangle
+     */
+    public int getBottom(int index) {
+        return bottom[index];
+    }
+
+    /**
+     * Rectangles qui touchent la zone de cellules [minX, maxX] x [minY, maxY] (bornes incluses),
+     * sans allocation. Chaque rectangle n'est rendu qu'une fois.
+     * Non réentrant : à appeler depuis un seul thread.
+     * @param out Tableau recevant les index des rectangles
+     * @return Nombre d'index écrits dans out (limité à sa taille)
+     */
+    public int query(int minX, int minY, int maxX, int maxY, int[] out) {
+        minX = Math.max(minX, 0);
+        minY = Math.max(minY, 0);
+        maxX = Math.min(maxX, maze.getWidth() - 1);
+        maxY = Math.min(maxY, maze.getHeight() - 1);
+        if (minX > maxX || minY > maxY) return 0;
+
+        if (++stamp == 0) {
+            Arrays.fill(queryStamp, 0);
+            stamp = 1;
+        }
+        int found = 0;
+        for (int by = minY / BUCKET_SIZE; by <= maxY / BUCKET_SIZE; by++) {
+            for (int bx = minX / BUCKET_SIZE; bx <= maxX / BUCKET_SIZE; bx++) {
+                int bucket = by * bucketCols + bx;
+                for (int k = bucketStart[bucket]; k < bucketStart[bucket + 1]; k++) {
+                    int i = bucketItems[k];
+                    if (queryStamp[i] == stamp) continue;
+                    queryStamp[i] = stamp;
+                    if (left[i] <= maxX && right[i] > minX && top[i] <= maxY && bottom[i] > minY) {
+                        if (found == out.length) return found;
+                        out[found++] = i;
+                    }
+                }
+            }
+        }
+        return found;
+    }
+}
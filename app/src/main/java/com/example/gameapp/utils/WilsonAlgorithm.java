@@ -0,0 +1,61 @@
+package com.example.gameapp.utils;
+
+import java.util.Random;
+
+/**
+ * Algorithme de Wilson : marches aléatoires à boucles effacées jusqu'au labyrinthe déjà construit.
+ * Produit un arbre couvrant uniforme (aucun biais de forme), mais les premières marches
+ * sont longues : c'est le plus lent des algorithmes sur les grandes grilles.
+ * Seule la dernière direction de sortie de chaque cellule est mémorisée, ce qui efface
+ * les boucles sans les détecter explicitement.
+ */
+public class WilsonAlgorithm implements MazeAlgorithm {
+
+    @Override
+    public void carve(MazeGrid maze, Random random) {
+        int cellsX = (maze.getWidth() - 1) / 2;
+        int cellsY = (maze.getHeight() - 1) / 2;
+        int cells = cellsX * cellsY;
+
+        boolean[] inside = new boolean[cells];
+        int[] next = new int[cells];
+        int[] candidates = new int[4];
+
+        int root = random.nextInt(cells);
+        inside[root] = true;
+        maze.setWall(2 * (root % cellsX) + 1, 2 * (root / cellsX) + 1, false);
+
+        for (int start = 0; start < cells; start++) {
+            if (inside[start]) continue;
+
+            // Marche aléatoire jusqu'au labyrinthe, en retenant la dernière sortie de chaque cellule
+            int cell = start;
+            while (!inside[cell]) {
+                int cx = cell % cellsX;
+                int cy = cell / cellsX;
+                int count = 0;
+                if (cx > 0) candidates[count++] = cell - 1;
+                if (cx + 1 < cellsX) candidates[count++] = cell + 1;
+                if (cy > 0) candidates[count++] = cell - cellsX;
+                if (cy + 1 < cellsY) candidates[count++] = cell + cellsX;
+                next[cell] = candidates[random.nextInt(count)];
+                cell = next[cell];
+            }
+
+            // Creuser le chemin sans boucle en suivant les dernières sorties
+            cell = start;
+            while (!inside[cell]) {
+                int following = next[cell];
+                inside[cell] = true;
+                maze.setWall(2 * (cell % cellsX) + 1, 2 * (cell / cellsX) + 1, false);
+                maze.setWall(cell % cellsX + following % cellsX + 1, cell / cellsX + following / cellsX + 1, false);
+                cell = following;
+            }
+        }
+    }
+
+    @Override
+    public int getId() {
+        return WILSON;
+    }
+}
@@ -0,0 +1,325 @@
+package com.example.gameapp;
+
+import com.example.gameapp.utils.Benchmarks;
+import com.example.gameapp.utils.MazeGenerator;
+import com.example.gameapp.utils.MazeGrid;
+import com.example.gameapp.utils.RotatedMazeView;
+import com.example.gameapp.utils.WallRectangles;
+
+import org.junit.Test;
+
+import java.util.Random;
+
+import static org.junit.Assert.*;
+
+/**
+ * Tests du gestionnaire de collisions (exécutés sur la JVM).
+ */
+public class MazeCollisionHandlerTest {
+
+    private static final float CELL_SIZE = 40f;
+    private static final float RADIUS = 12f;
+
+    // Couloir horizontal entouré de murs
+    private static final int[][] CORRIDOR = {
+            {1, 1, 1, 1, 1},
+            {1, 0, 0, 0, 1},
+            {1, 1, 1, 1, 1}
+    };
+
+    // Pièce de 3x3 cellules entourée de murs
+    private static final int[][] ROOM = {
+            {1, 1, 1, 1, 1},
+            {1, 0, 0, 0, 1},
+            {1, 0, 0, 0, 1},
+            {1, 0, 0, 0, 1},
+            {1, 1, 1, 1, 1}
+    };
+
+    @Test
+    public void checkCollision_reportsWallContactAndNormal() {
+        MazeCollisionHandler handler = new MazeCollisionHandler(MazeGrid.fromArray(CORRIDOR), CELL_SIZE);
+        MazeCollisionHandler.CollisionInfo info = new MazeCollisionHandler.CollisionInfo();
+
+        // Balle collée au mur du haut
+        assertTrue(handler.checkCollision(100f, CELL_SIZE + RADIUS - 2f, RADIUS, info));
+        assertEquals(0f, info.normalX, 1e-4f);
+        assertEquals(1f, info.normalY, 1e-4f);
+        assertEquals(2f, info.penetration, 1e-4f);
+
+        // Balle au centre du couloir : le même objet est remis à zéro
+        assertFalse(handler.checkCollision(100f, 60f, RADIUS, info));
+        assertFalse(info.hasCollided);
+        assertEquals(0f, info.penetration, 0f);
+    }
+
+    @Test
+    public void resolveCollision_reflectsVelocityInPlace() {
+        MazeCollisionHandler handler = new MazeCollisionHandler(MazeGrid.fromArray(CORRIDOR), CELL_SIZE);
+        MazeCollisionHandler.CollisionInfo info = new MazeCollisionHandler.CollisionInfo();
+        float[] velocity = {3f, -5f};
+
+        handler.checkCollision(100f, CELL_SIZE + RADIUS - 2f, RADIUS, info);
+        handler.resolveCollision(info, velocity, 1f);
+
+        assertEquals(3f, velocity[0], 1e-4f);
+        assertEquals(5f, velocity[1], 1e-4f);
+    }
+
+    @Test
+    public void checkCollision_combinesCornerContacts() {
+        MazeCollisionHandler handler = new MazeCollisionHandler(MazeGrid.fromArray(ROOM), CELL_SIZE);
+        MazeCollisionHandler.CollisionInfo info = new MazeCollisionHandler.CollisionInfo();
+
+        // Balle enfoncée de 2 px dans le mur du haut et dans celui de gauche
+        assertTrue(handler.checkCollision(CELL_SIZE + RADIUS - 2f, CELL_SIZE + RADIUS - 2f, RADIUS, info));
+        assertEquals(2, info.contactCount);
+        assertEquals(0.7071f, info.normalX, 1e-3f);
+        assertEquals(0.7071f, info.normalY, 1e-3f);
+        assertEquals(2f * (float) Math.sqrt(2), info.penetration, 1e-3f);
+
+        // Le rebond renvoie la balle hors du coin sur les deux axes
+        float[] velocity = {-4f, -3f};
+        handler.resolveCollision(info, velocity, 1f);
+        assertEquals(4f, velocity[0], 1e-4f);
+        assertEquals(3f, velocity[1], 1e-4f);
+    }
+
+    @Test
+    public void ballPushedIntoCorner_comesToRest() {
+        MazeCollisionHandler handler = new MazeCollisionHandler(MazeGrid.fromArray(ROOM), CELL_SIZE);
+        MazeCollisionHandler.CollisionInfo info = new MazeCollisionHandler.CollisionInfo();
+        float[] position = {2.5f * CELL_SIZE, 2.5f * CELL_SIZE};
+        float[] velocity = new float[2];
+        float damping = 0.95f;
+
+        // Simulation sans affichage, identique à GameView.update(), sous une gravité
+        // constante qui pousse la balle dans le coin supérieur gauche
+        int restFrames = 0;
+        int frame = 0;
+        for (; frame < 600 && restFrames < 10; frame++) {
+            float lastX = position[0];
+            float lastY = position[1];
+            velocity[0] -= 0.4f;
+            velocity[1] -= 0.3f;
+
+            handler.moveAndCollide(position, velocity, RADIUS, damping, info);
+            if (handler.checkCollision(position[0], position[1], RADIUS, info)) {
+                position[0] += info.normalX * info.penetration;
+                position[1] += info.normalY * info.penetration;
+                handler.resolveCollision(info, velocity, damping);
+            }
+            velocity[0] *= damping;
+            velocity[1] *= damping;
+
+            boolean still = Math.abs(position[0] - lastX) < 0.01f && Math.abs(position[1] - lastY) < 0.01f;
+            restFrames = still ? restFrames + 1 : 0;
+        }
+        assertEquals("La balle doit se stabiliser dans le coin", 10, restFrames);
+        assertTrue("Frames avant repos : " + frame, frame < 200);
+        assertEquals(CELL_SIZE + RADIUS, position[0], 0.1f);
+        assertEquals(CELL_SIZE + RADIUS, position[1], 0.1f);
+    }
+
+    @Test
+    public void wallRectangleBroadPhase_givesSameResults() {
+        MazeGrid grid = new MazeGenerator(12, 9, 5L).getMaze();
+        RotatedMazeView view = new RotatedMazeView(grid);
+        MazeCollisionHandler cells = new MazeCollisionHandler(view, CELL_SIZE);
+        MazeCollisionHandler merged = new MazeCollisionHandler(view, CELL_SIZE);
+        merged.setWallRectangles(new WallRectangles(grid));
+        cells.setMazeOffset(7f, -3f);
+        merged.setMazeOffset(7f, -3f);
+        MazeCollisionHandler.CollisionInfo expected = new MazeCollisionHandler.CollisionInfo();
+        MazeCollisionHandler.CollisionInfo actual = new MazeCollisionHandler.CollisionInfo();
+        Random random = new Random(42);
+
+        int contacts = 0, impacts = 0;
+        for (int i = 0; i < 50_000; i++) {
+            // Pivoter comme GameView : les gestionnaires relisent les dimensions de la vue
+            view.setRotation(i % 4);
+            cells.updateMazeGrid(view);
+            merged.updateMazeGrid(view);
+            // Centre de la balle dans un passage de la vue courante
+            int cellX = random.nextInt(view.getWidth());
+            int cellY = random.nextInt(view.getHeight());
+            if (view.isWall(cellX, cellY)) continue;
+            float x = 7f + (cellX + random.nextFloat()) * CELL_SIZE;
+            float y = -3f + (cellY + random.nextFloat()) * CELL_SIZE;
+            float moveX = (random.nextFloat() - 0.5f) * 80f;
+            float moveY = (random.nextFloat() - 0.5f) * 80f;
+
+            boolean touching = cells.checkCollision(x, y, RADIUS, expected);
+            assertEquals(touching, merged.checkCollision(x, y, RADIUS, actual));
+            if (touching) {
+                // Les passes de translation minimale suivent un autre ordre (moins de murs) :
+                // vérifier seulement que la correction sort bien la balle de toutes les cellules
+                float resolvedX = x + actual.normalX * actual.penetration;
+                float resolvedY = y + actual.normalY * actual.penetration;
+                if (cells.checkCollision(resolvedX, resolvedY, RADIUS, expected)) {
+                    assertTrue("Pénétration résiduelle " + expected.penetration, expected.penetration < 0.05f);
+                }
+                contacts++;
+                continue;
+            }
+
+            // Détection continue depuis une position libre : même premier impact
+            boolean hit = cells.sweepCollision(x, y, moveX, moveY, RADIUS, expected);
+            assertEquals(hit, merged.sweepCollision(x, y, moveX, moveY, RADIUS, actual));
+            assertEquals(expected.time, actual.time, 1e-5f);
+            if (hit) impacts++;
+        }
+        assertTrue(contacts > 0);
+        assertTrue(impacts > 0);
+    }
+
+    @Test
+    public void collisionLoop_doesNotAllocate() {
+        MazeGrid grid = MazeGrid.fromArray(CORRIDOR);
+        MazeCollisionHandler handler = new MazeCollisionHandler(grid, CELL_SIZE);
+        handler.setWallRectangles(new WallRectangles(grid));
+        MazeCollisionHandler.CollisionInfo info = new MazeCollisionHandler.CollisionInfo();
+        float[] velocity = new float[2];
+        int[] contacts = new int[1];
+
+        long allocated = Benchmarks.allocatedBytes(
+                () -> contacts[0] = runCollisionLoop(handler, info, velocity, 100_000));
+
+        assertTrue(contacts[0] > 0);
+        assertEquals("Octets alloués pendant 100k pas de collision", 0L, allocated);
+    }
+
+    @Test
+    public void sweepCollision_reportsTimeOfImpactAndNormal() {
+        MazeCollisionHandler handler = new MazeCollisionHandler(MazeGrid.fromArray(CORRIDOR), CELL_SIZE);
+        MazeCollisionHandler.CollisionInfo info = new MazeCollisionHandler.CollisionInfo();
+
+        // Vers la droite depuis le centre de la cellule (1, 1) : contact quand x = 160 - rayon
+        assertTrue(handler.sweepCollision(60f, 60f, 200f, 0f, RADIUS, info));
+        assertEquals((160f - RADIUS - 60f) / 200f, info.time, 1e-5f);
+        assertEquals(-1f, info.normalX, 1e-5f);
+        assertEquals(0f, info.normalY, 1e-5f);
+
+        // Déplacement trop court pour atteindre le mur
+        assertFalse(handler.sweepCollision(60f, 60f, 10f, 0f, RADIUS, info));
+        assertEquals(1f, info.time, 0f);
+    }
+
+    @Test
+    public void maxSpeedShots_neverPenetrateWalls() {
+        // Cellules plus petites que le déplacement par frame : sans détection continue,
+        // la balle traverse les murs d'une cellule d'épaisseur
+        float cellSize = 10f;
+        float radius = 4f;
+        float maxSpeed = 20f;
+        MazeGrid grid = new MazeGenerator(10, 10, 5L).getMaze();
+        MazeCollisionHandler handler = new MazeCollisionHandler(grid, cellSize);
+        MazeCollisionHandler.CollisionInfo info = new MazeCollisionHandler.CollisionInfo();
+        MazeCollisionHandler.CollisionInfo impact = new MazeCollisionHandler.CollisionInfo();
+        MazeCollisionHandler.CollisionInfo probe = new MazeCollisionHandler.CollisionInfo();
+        float[] position = new float[2];
+        float[] velocity = new float[2];
+        float[] bounced = new float[2];
+        float[][] directions = {{1, 0}, {-1, 0}, {0, 1}, {0, -1},
+                {0.6f, 0.8f}, {-0.8f, 0.6f}, {0.8f, -0.6f}, {-0.6f, -0.8f}};
+        int shots = 0, bounces = 0;
+
+        for (int y = 1; y < grid.getHeight() - 1; y++) {
+            for (int x = 1; x < grid.getWidth() - 1; x++) {
+                if (grid.isWall(x, y)) continue;
+                for (float[] direction : directions) {
+                    position[0] = (x + 0.5f) * cellSize;
+                    position[1] = (y + 0.5f) * cellSize;
+                    velocity[0] = direction[0] * maxSpeed;
+                    velocity[1] = direction[1] * maxSpeed;
+                    shots++;
+
+                    for (int frame = 0; frame < 40; frame++) {
+                        // Suivre le trajet de la frame rebond par rebond : du départ au premier
+                        // impact, puis de chaque impact au suivant ou à la position d'arrivée
+                        float fromX = position[0];
+                        float fromY = position[1];
+                        bounced[0] = velocity[0];
+                        bounced[1] = velocity[1];
+                        float remaining = 1f;
+                        int hits = 0;
+                        // Au plus quatre rebonds par frame, comme moveAndCollide
+                        while (hits < 4 && remaining > 0 && handler.sweepCollision(fromX, fromY,
+                                bounced[0] * remaining, bounced[1] * remaining, radius, impact)) {
+                            float moveX = bounced[0] * remaining;
+                            float moveY = bounced[1] * remaining;
+                            float impactX = fromX + moveX * impact.time;
+                            float impactY = fromY + moveY * impact.time;
+                            assertSegmentClear(handler, probe, fromX, fromY, impactX, impactY, radius);
+                            // Même écart au mur que moveAndCollide avant de repartir
+                            fromX += moveX * impact.time + impact.normalX * 0.01f;
+                            fromY += moveY * impact.time + impact.normalY * 0.01f;
+                            handler.resolveCollision(impact, bounced, 1f);
+                            remaining *= 1f - impact.time;
+                            hits++;
+                        }
+                        bounces += hits;
+                        // Après le dernier rebond autorisé, la balle reste au point de contact
+                        if (hits == 4) remaining = 0;
+                        float toX = fromX + bounced[0] * remaining;
+                        float toY = fromY + bounced[1] * remaining;
+                        assertSegmentClear(handler, probe, fromX, fromY, toX, toY, radius);
+
+                        // Le trajet suivi est bien celui de moveAndCollide
+                        handler.moveAndCollide(position, velocity, radius, 1f, info);
+                        assertEquals(toX, position[0], 1e-3f);
+                        assertEquals(toY, position[1], 1e-3f);
+                    }
+                }
+            }
+        }
+        assertTrue(shots > 0);
+        assertTrue(bounces > 0);
+    }
+
+    /**
+     * Échantillonne le trajet parcouru pendant une frame et vérifie
+     * qu'aucun point ne recouvre un mur
+     */
+    private static void assertSegmentClear(MazeCollisionHandler handler,
+                                           MazeCollisionHandler.CollisionInfo probe,
+                                           float fromX, float fromY, float toX, float toY,
+                                           float radius) {
+        float dx = toX - fromX;
+        float dy = toY - fromY;
+        int samples = Math.max(1, (int) (Math.sqrt(dx * dx + dy * dy) / 0.25f));
+        for (int i = 0; i <= samples; i++) {
+            float x = fromX + dx * i / samples;
+            float y = fromY + dy * i / samples;
+            if (handler.checkCollision(x, y, radius, probe)) {
+                assertTrue("Pénétration de " + probe.penetration + " px en (" + x + ", " + y + ")",
+                        probe.penetration < 0.05f);
+            }
+        }
+    }
+
+    /**
+     * Fait rebondir une balle dans le couloir en réutilisant les mêmes objets
+     * @return Nombre de contacts détectés
+     */
+    private static int runCollisionLoop(MazeCollisionHandler handler,
+                                        MazeCollisionHandler.CollisionInfo info,
+                                        float[] velocity, int steps) {
+        float x = 60f, y = 60f;
+        velocity[0] = 7f;
+        velocity[1] = 5f;
+        int contacts = 0;
+        for (int i = 0; i < steps; i++) {
+            float prevX = x, prevY = y;
+            x += velocity[0];
+            y += velocity[1];
+            if (handler.checkCollision(x, y, RADIUS, info)) {
+                x = prevX + info.normalX * info.penetration;
+                y = prevY + info.normalY * info.penetration;
+                handler.resolveCollision(info, velocity, 1f);
+                contacts++;
+            }
+        }
+        return contacts;
+    }
+}
@@ -0,0 +1,107 @@
+package com.example.gameapp.utils;
+
+import org.junit.Test;
+
+import java.util.Random;
+
+import static org.junit.Assert.*;
+
+/**
+ * Tests et micro-benchmark de la conversion des axes de l'accéléromètre
+ */
+public class AxisRemapTest {
+
+    @Test
+    public void remap_matchesPerRotationSwitch() {
+        AxisRemap remap = new AxisRemap();
+        float[] values = {3f, -7f, 9.8f};
+        float[] out = new float[2];
+        float[] expected = new float[2];
+
+        for (int rotation = 0; rotation < 4; rotation++) {
+            remap.setRotation(rotation);
+            remap.remap(values, out);
+            switchRemap(rotation, values, expected);
+            assertEquals(expected[0], out[0], 0f);
+            assertEquals(expected[1], out[1], 0f);
+        }
+    }
+
+    /**
+     * Comparaison indicative du chemin matriciel et de l'ancien switch.
+     * Lancée seulement avec -Dbenchmark=true.
+     */
+    @Test
+    public void benchmark_remapPath() {
+        Benchmarks.assumeEnabled();
+        final int samples = 1024;
+        final int rounds = 20_000;
+        Random random = new Random(1);
+        float[][] values = new float[samples][3];
+        for (float[] v : values) {
+            v[0] = random.nextFloat() * 20 - 10;
+            v[1] = random.nextFloat() * 20 - 10;
+        }
+        int[] rotations = new int[samples];
+        for (int i = 0; i < samples; i++) {
+            rotations[i] = random.nextInt(4);
+        }
+        AxisRemap remap = new AxisRemap();
+        float[] out = new float[2];
+
+        // Préchauffage puis meilleure de 5 mesures, pour les deux chemins
+        double sink = 0;
+        long bestMatrix = Long.MAX_VALUE;
+        long bestSwitch = Long.MAX_VALUE;
+        for (int run = 0; run < 6; run++) {
+            long start = System.nanoTime();
+            for (int r = 0; r < rounds; r++) {
+                // Rotation en cache : changée rarement, comme par l'écouteur d'affichage
+                remap.setRotation(r & 3);
+                for (int i = 0; i < samples; i++) {
+                    remap.remap(values[i], out);
+                    sink += out[0] + out[1];
+                }
+            }
+            if (run > 0) bestMatrix = Math.min(bestMatrix, System.nanoTime() - start);
+
+            start = System.nanoTime();
+            for (int r = 0; r < rounds; r++) {
+                // Ancien chemin : rotation lue et testée à chaque mesure (ici sans l'appel système)
+                for (int i = 0; i < samples; i++) {
+                    switchRemap(rotations[i], values[i], out);
+                    sink += out[0] + out[1];
+                }
+            }
+            if (run > 0) bestSwitch = Math.min(bestSwitch, System.nanoTime() - start);
+        }
+
+        long calls = (long) samples * rounds;
+        System.out.println(String.format("AxisRemap : matrice %.2f ns/mesure, switch %.2f ns/mesure (%s)",
+                bestMatrix / (double) calls, bestSwitch / (double) calls, sink != 0 ? "ok" : "-"));
+    }
+
+    /**
+     * Ancienne conversion de GameActivity, par rotation
+     */
+    private static void switchRemap(int rotation, float[] values, float[] out) {
+        switch (rotation) {
+            case 0:
+                out[0] = -values[0];
+                out[1] = values[1];
+                break;
+            case 1:
+                out[0] = values[1];
+                out[1] = values[0];
+                break;
+            case 2:
+                out[0] = values[0];
+                out[1] = -values[1];
+                break;
+            case 3:
+                out[0] = -values[1];
+                out[1] = -values[0];
+                break;
+        }
+    }
+}
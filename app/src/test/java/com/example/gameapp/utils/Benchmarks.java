@@ -0,0 +1,53 @@
+package com.example.gameapp.utils;
+
+import java.lang.management.ManagementFactory;
+
+import static org.junit.Assume.assumeTrue;
+
+/**
+ * Outils communs aux tests de performance
+ */
+public final class Benchmarks {
+
+    // Nombre de mesures d'allocation, pour écarter le bruit ponctuel de la JVM (compilation, profilage)
+    private static final int ALLOCATION_RUNS = 5;
+
+    private Benchmarks() {
+    }
+
+    /**
+     * Les mesures longues ne tournent qu'à la demande, pour garder la suite de tests rapide :
+     * ./gradlew test -Dbenchmark=true
+     */
+    public static void assumeEnabled() {
+        assumeTrue("Mesure ignorée (activer avec -Dbenchmark=true)", Boolean.getBoolean("benchmark"));
+    }
+
+    /**
+     * Octets alloués par le thread courant pendant work.run(), sans le coût de la mesure.
+     * work est d'abord exécuté une fois pour que le JIT le compile, puis mesuré plusieurs
+     * fois : la plus petite mesure est gardée. Le test est ignoré si la JVM ne sait pas compter.
+     */
+    public static long allocatedBytes(Runnable work) {
+        com.sun.management.ThreadMXBean threads =
+                (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        assumeTrue(threads.isThreadAllocatedMemorySupported());
+        threads.setThreadAllocatedMemoryEnabled(true);
+        long threadId = Thread.currentThread().getId();
+
+        // Échauffement pour que le JIT compile le code mesuré
+        work.run();
+
+        // Coût de la mesure elle-même, retranché ensuite
+        long before = threads.getThreadAllocatedBytes(threadId);
+        long baseline = threads.getThreadAllocatedBytes(threadId) - before;
+
+        long allocated = Long.MAX_VALUE;
+        for (int run = 0; run < ALLOCATION_RUNS && allocated > 0; run++) {
+            before = threads.getThreadAllocatedBytes(threadId);
+            work.run();
+            allocated = Math.min(allocated, threads.getThreadAllocatedBytes(threadId) - before - baseline);
+        }
+        return allocated;
+    }
+}
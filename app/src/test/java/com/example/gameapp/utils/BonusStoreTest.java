@@ -0,0 +1,115 @@
+package com.example.gameapp.utils;
+
+import org.junit.Test;
+
+import java.util.Random;
+
+import static org.junit.Assert.*;
+
+/**
+ * Tests de la réserve de bonus et de son index spatial
+ */
+public class BonusStoreTest {
+
+    @Test
+    public void collect_matchesBruteForce() {
+        Random random = new Random(11);
+        for (int round = 0; round < 200; round++) {
+            BonusStore store = new BonusStore(4);
+            store.setGrid(20, 15, 30f, 12f, 40f);
+            store.setRadius(12f);
+
+            // Quelques bonus hors de la grille pour vérifier qu'ils restent collectables
+            int count = 300;
+            float[] xs = new float[count];
+            float[] ys = new float[count];
+            for (int i = 0; i < count; i++) {
+                xs[i] = -20f + random.nextFloat() * 660f;
+                ys[i] = 20f + random.nextFloat() * 500f;
+                store.add(xs[i], ys[i], i);
+            }
+
+            float ballX = random.nextFloat() * 640f;
+            float ballY = random.nextFloat() * 500f;
+            float ballRadius = 5f + random.nextFloat() * 40f;
+            float reach = ballRadius + 12f;
+
+            float expected = 0;
+            int remaining = count;
+            for (int i = 0; i < count; i++) {
+                float dx = xs[i] - ballX;
+                float dy = ys[i] - ballY;
+                if (dx * dx + dy * dy < reach * reach) {
+                    expected += i;
+                    remaining--;
+                }
+            }
+
+            assertEquals(expected, store.collect(ballX, ballY, ballRadius), 0f);
+            assertEquals(remaining, store.getActiveCount());
+            // Une seconde collecte au même endroit ne trouve plus rien
+            assertEquals(0f, store.collect(ballX, ballY, ballRadius), 0f);
+        }
+    }
+
+    @Test
+    public void slots_areReused_withoutGrowing() {
+        BonusStore store = new BonusStore(500);
+        store.setGrid(10, 10, 10f, 0f, 0f);
+        Random random = new Random(5);
+        int[] slots = new int[500];
+        for (int i = 0; i < slots.length; i++) {
+            slots[i] = store.add(random.nextFloat() * 100f, random.nextFloat() * 100f, 1f);
+        }
+
+        for (int churn = 0; churn < 100_000; churn++) {
+            int i = random.nextInt(slots.length);
+            store.remove(slots[i]);
+            slots[i] = store.add(random.nextFloat() * 100f, random.nextFloat() * 100f, 1f);
+        }
+
+        assertEquals(500, store.getCapacity());
+        assertEquals(500, store.getSlotCount());
+        assertEquals(500, store.getActiveCount());
+    }
+
+    @Test
+    public void movedBonus_isFoundInItsNewCell() {
+        BonusStore store = new BonusStore(2);
+        store.setGrid(10, 10, 10f, 0f, 0f);
+        store.setRadius(2f);
+        int slot = store.add(5f, 5f, 0.5f);
+
+        store.setPosition(slot, 85f, 75f);
+        assertEquals(0f, store.collect(5f, 5f, 3f), 0f);
+        assertEquals(0.5f, store.collect(85f, 76f, 3f), 0f);
+        assertFalse(store.isActive(slot));
+    }
+
+    @Test
+    public void newGrid_reindexesExistingBonuses() {
+        BonusStore store = new BonusStore(2);
+        store.add(55f, 55f, 0.3f);
+        store.setRadius(2f);
+
+        // Sans grille, rien n'est indexé ; la grille arrive ensuite
+        assertEquals(0f, store.collect(55f, 55f, 3f), 0f);
+        store.setGrid(4, 4, 20f, 10f, 10f);
+        assertEquals(0.3f, store.collect(55f, 55f, 3f), 0f);
+    }
+
+    @Test
+    public void clear_freesEverySlot() {
+        BonusStore store = new BonusStore(3);
+        store.setGrid(5, 5, 10f, 0f, 0f);
+        for (int i = 0; i < 3; i++) {
+            store.add(i * 10f, 0f, 1f);
+        }
+        store.clear();
+        assertEquals(0, store.getActiveCount());
+        assertEquals(0f, store.collect(10f, 0f, 50f), 0f);
+
+        store.add(1f, 1f, 2f);
+        assertEquals(3, store.getCapacity());
+    }
+}
@@ -0,0 +1,73 @@
+package com.example.gameapp.utils;
+
+import org.junit.Test;
+
+import static org.junit.Assert.*;
+
+/**
+ * Tests de la transformation des contrôles par les effets de lucidité
+ */
+public class ControlTransformTest {
+
+    @Test
+    public void apply_matchesInversionThenRotation() {
+        ControlTransform transform = new ControlTransform();
+        float[] out = new float[2];
+        boolean[] flags = {false, true};
+        float[] rotations = {0f, 27f, 90f, 180f};
+
+        for (boolean invertX : flags) {
+            for (boolean invertY : flags) {
+                for (float rotation : rotations) {
+                    transform.set(invertX, invertY, rotation);
+                    transform.apply(3f, -2f, out);
+
+                    // Ancien calcul de LucidityManager.applyControlEffects
+                    float x = invertX ? -3f : 3f;
+                    float y = invertY ? 2f : -2f;
+                    if (rotation != 0) {
+                        float radians = (float) Math.toRadians(rotation);
+                        float cos = (float) Math.cos(radians);
+                        float sin = (float) Math.sin(radians);
+                        float newX = x * cos - y * sin;
+                        y = x * sin + y * cos;
+                        x = newX;
+                    }
+                    assertEquals(x, out[0], 1e-5f);
+                    assertEquals(y, out[1], 1e-5f);
+                }
+            }
+        }
+    }
+
+    @Test
+    public void set_rebuildsOnlyWhenEffectsChange() {
+        ControlTransform transform = new ControlTransform();
+        assertTrue(transform.set(true, false, 45f));
+        assertFalse(transform.set(true, false, 45f));
+        assertTrue(transform.set(true, false, 46f));
+        assertTrue(transform.set(false, false, 46f));
+    }
+
+    @Test
+    public void oneMillionCalls_doNotAllocate() {
+        ControlTransform transform = new ControlTransform();
+        transform.set(false, true, 33f);
+        float[] out = new float[2];
+        float[] sum = new float[1];
+
+        long allocated = Benchmarks.allocatedBytes(() -> sum[0] = runCalls(transform, out, 1_000_000));
+
+        assertFalse(Float.isNaN(sum[0]));
+        assertEquals("Octets alloués pendant 1M appels", 0L, allocated);
+    }
+
+    private static float runCalls(ControlTransform transform, float[] out, int calls) {
+        float sum = 0;
+        for (int i = 0; i < calls; i++) {
+            transform.apply(i & 15, -(i & 7), out);
+            sum += out[0] - out[1];
+        }
+        return sum;
+    }
+}
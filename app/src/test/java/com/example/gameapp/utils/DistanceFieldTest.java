@@ -0,0 +1,59 @@
+package com.example.gameapp.utils;
+
+import org.junit.Test;
+
+import static org.junit.Assert.*;
+
+/**
+ * Compare le champ de distance à une recherche exhaustive
+ */
+public class DistanceFieldTest {
+
+    @Test
+    public void matchesBruteForce_inEveryOrientation() {
+        MazeGrid grid = new MazeGenerator(15, 9).getMaze();
+        RotatedMazeView view = new RotatedMazeView(grid);
+        DistanceField field = new DistanceField(view);
+
+        for (int rotation = 0; rotation < 4; rotation++) {
+            view.setRotation(rotation);
+            for (int y = 0; y < view.getHeight(); y++) {
+                for (int x = 0; x < view.getWidth(); x++) {
+                    assertEquals(bruteForceDistance(view, x, y, true), field.distanceToWall(x, y), 0.05f);
+
+                    int free = field.nearestFreeCell(x, y);
+                    int freeX = free % view.getWidth();
+                    int freeY = free / view.getWidth();
+                    assertFalse(view.isWall(freeX, freeY));
+                    float distance = (float) Math.hypot(freeX - x, freeY - y);
+                    assertEquals(bruteForceDistance(view, x, y, false), distance, 0.05f);
+                }
+            }
+        }
+    }
+
+    @Test
+    public void gridWithoutPassages_hasNoFreeCell() {
+        MazeGrid grid = new MazeGrid(4, 3);
+        grid.fill(true);
+        DistanceField field = new DistanceField(new RotatedMazeView(grid));
+
+        assertEquals(-1, field.nearestFreeCell(2, 1));
+        assertEquals(0f, field.distanceToWall(2, 1), 0f);
+    }
+
+    /**
+     * Distance du centre de (x, y) à la cellule la plus proche du type demandé
+     */
+    private static float bruteForceDistance(MazeView view, int x, int y, boolean wall) {
+        double best = Double.POSITIVE_INFINITY;
+        for (int j = 0; j < view.getHeight(); j++) {
+            for (int i = 0; i < view.getWidth(); i++) {
+                if (view.isWall(i, j) == wall) {
+                    best = Math.min(best, Math.hypot(i - x, j - y));
+                }
+            }
+        }
+        return (float) best;
+    }
+}
@@ -0,0 +1,120 @@
+package com.example.gameapp.utils;
+
+import org.junit.Test;
+
+import static org.junit.Assert.*;
+
+/**
+ * Tests de la génération ligne par ligne et de la fenêtre glissante
+ */
+public class EllerRowStreamTest {
+
+    @Test
+    public void closedStream_givesPerfectMaze() {
+        for (long seed = 0; seed < 10; seed++) {
+            EllerRowStream stream = new EllerRowStream(23, seed);
+            MazeGrid maze = new MazeGrid(stream.getWidth(), 2 * 31 + 1);
+            for (int y = 0; y < maze.getHeight(); y++) {
+                if (y == maze.getHeight() - 2) stream.close();
+                stream.nextRow(maze, y);
+            }
+            assertTrue(stream.isFinished());
+
+            // Sortie en bas, comme MazeGenerator
+            maze.setWall(maze.getWidth() - 2, maze.getHeight() - 1, false);
+            MazeGeneratorTest.assertPerfectMaze(maze);
+        }
+    }
+
+    @Test
+    public void openStream_keepsEveryCellConnectedToTheLastRow() {
+        int cellsX = 40;
+        int rows = 2 * 150 + 1;
+        EllerRowStream stream = new EllerRowStream(cellsX, 8L);
+        MazeGrid maze = new MazeGrid(stream.getWidth(), rows + 1);
+        for (int y = 0; y < rows; y++) {
+            stream.nextRow(maze, y);
+        }
+
+        // Parcours en largeur depuis toutes les cellules de la dernière ligne produite
+        int width = maze.getWidth();
+        boolean[] visited = new boolean[width * maze.getHeight()];
+        int[] queue = new int[width * maze.getHeight()];
+        int head = 0, tail = 0;
+        int lastCellRow = rows - 2;
+        for (int cx = 0; cx < cellsX; cx++) {
+            int cell = lastCellRow * width + 2 * cx + 1;
+            visited[cell] = true;
+            queue[tail++] = cell;
+        }
+        int[] moves = {1, -1, width, -width};
+        while (head < tail) {
+            int cell = queue[head++];
+            for (int move : moves) {
+                int next = cell + move;
+                int y = next / width;
+                if (y >= rows || visited[next] || maze.isWall(next % width, y)) continue;
+                visited[next] = true;
+                queue[tail++] = next;
+            }
+        }
+
+        for (int cy = 0; 2 * cy + 1 < rows; cy++) {
+            for (int cx = 0; cx < cellsX; cx++) {
+                assertTrue("Cellule isolée " + cx + "," + cy, visited[(2 * cy + 1) * width + 2 * cx + 1]);
+            }
+        }
+    }
+
+    @Test
+    public void ring_showsTheSameRowsAsTheFullMaze() {
+        int cellsX = 17;
+        int visibleRows = 25;
+        int totalRows = 600;
+
+        EllerRowStream reference = new EllerRowStream(cellsX, 3L);
+        MazeGrid full = new MazeGrid(reference.getWidth(), totalRows);
+        for (int y = 0; y < totalRows; y++) {
+            reference.nextRow(full, y);
+        }
+
+        MazeRowRing ring = new MazeRowRing(new EllerRowStream(cellsX, 3L), visibleRows);
+        assertEquals(visibleRows, ring.getHeight());
+        int step = 0;
+        while (ring.getFirstRow() + visibleRows <= totalRows) {
+            for (int y = 0; y < visibleRows; y++) {
+                for (int x = 0; x < ring.getWidth(); x++) {
+                    assertEquals(full.isWall(x, (int) ring.getFirstRow() + y), ring.isWall(x, y));
+                }
+            }
+            // Défilement irrégulier pour croiser la fin du tampon à des positions variées
+            ring.scroll(1 + (step++ % 7));
+        }
+    }
+
+    @Test
+    public void ring_stopsAtTheEndOfAClosedStream() {
+        EllerRowStream stream = new EllerRowStream(5, 1L);
+        MazeRowRing ring = new MazeRowRing(stream, 4);
+        stream.close();
+
+        // Fermé : passages de la ligne en cours, dernière ligne de cellules, bord inférieur
+        assertEquals(3, ring.scroll(10));
+        assertTrue(stream.isFinished());
+        assertEquals(0, ring.scroll(1));
+        for (int x = 0; x < ring.getWidth(); x++) {
+            assertTrue(ring.isWall(x, ring.getHeight() - 1));
+        }
+    }
+
+    @Test
+    public void longSession_doesNotAllocate() {
+        MazeRowRing ring = new MazeRowRing(new EllerRowStream(50, 12L), 40);
+        int[] scrolled = new int[1];
+
+        long allocated = Benchmarks.allocatedBytes(() -> scrolled[0] = ring.scroll(1_000_000));
+
+        assertEquals(1_000_000, scrolled[0]);
+        assertEquals("Octets alloués pendant 1M lignes défilées", 0L, allocated);
+    }
+}
@@ -0,0 +1,58 @@
+package com.example.gameapp.utils;
+
+import org.junit.Test;
+
+import static org.junit.Assert.*;
+
+/**
+ * Tests des statistiques de régularité d'affichage
+ */
+public class FramePacingStatsTest {
+
+    private static final long FRAME_60HZ = 16_666_667L;
+
+    @Test
+    public void regularFrames_haveNoJankAndNoVariance() {
+        FramePacingStats stats = new FramePacingStats(60f);
+        for (int i = 0; i <= 100; i++) {
+            stats.recordFrame(1_000_000_000L + i * FRAME_60HZ);
+        }
+
+        assertEquals(100, stats.getIntervalCount());
+        assertEquals(0, stats.getJankCount());
+        assertEquals(16.667, stats.getMeanIntervalMillis(), 0.001);
+        assertEquals(0, stats.getIntervalVariance(), 1e-6);
+    }
+
+    @Test
+    public void missedVsync_countsAsJankAndRaisesVariance() {
+        FramePacingStats stats = new FramePacingStats(60f);
+        long time = 0;
+        stats.recordFrame(time);
+        for (int i = 0; i < 10; i++) {
+            // Une image sur cinq manque une synchronisation
+            time += (i % 5 == 4) ? 2 * FRAME_60HZ : FRAME_60HZ;
+            stats.recordFrame(time);
+        }
+
+        assertEquals(2, stats.getJankCount());
+        // Intervalles : 8 x 16,67 ms et 2 x 33,33 ms
+        assertEquals(20.0, stats.getMeanIntervalMillis(), 0.001);
+        assertEquals(8 * 3.333 * 3.333 / 9 + 2 * 13.333 * 13.333 / 9, stats.getIntervalVariance(), 0.01);
+    }
+
+    @Test
+    public void reset_startsANewMeasurement() {
+        FramePacingStats stats = new FramePacingStats(120f);
+        stats.recordFrame(0);
+        stats.recordFrame(50_000_000L);
+        assertEquals(1, stats.getJankCount());
+
+        stats.reset();
+        stats.recordFrame(1_000_000_000L);
+        assertEquals(0, stats.getIntervalCount());
+        stats.recordFrame(1_008_333_333L);
+        assertEquals(1, stats.getIntervalCount());
+        assertEquals(0, stats.getJankCount());
+    }
+}
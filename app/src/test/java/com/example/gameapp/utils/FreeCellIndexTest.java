@@ -0,0 +1,161 @@
+package com.example.gameapp.utils;
+
+import org.junit.Test;
+
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.Random;
+
+import static org.junit.Assert.*;
+
+/**
+ * Tests de l'index des passages utilisé pour placer les bonus
+ */
+public class FreeCellIndexTest {
+
+    @Test
+    public void ring_matchesFullSearch_inEveryOrientation() {
+        RotatedMazeView view = new RotatedMazeView(new MazeGenerator(12, 8).getMaze());
+        FreeCellIndex index = new FreeCellIndex(3, 10);
+        Random random = new Random(7);
+
+        for (int rotation = 0; rotation < 4; rotation++) {
+            view.setRotation(rotation);
+            index.rebuild(view);
+            for (int y = 0; y < view.getHeight(); y++) {
+                for (int x = 0; x < view.getWidth(); x++) {
+                    if (view.isWall(x, y)) continue;
+                    index.setOrigin(x, y);
+                    int[] distances = fullSearch(view, x, y);
+
+                    int expected = 0;
+                    for (int d : distances) {
+                        if (d >= 3 && d <= 10) expected++;
+                    }
+                    assertEquals(expected, index.getRingCount());
+
+                    // Le tirage ne doit jamais échouer s'il existe une cellule valide
+                    for (int i = 0; i < 20; i++) {
+                        int cell = index.pickRingCell(random);
+                        if (expected == 0) {
+                            assertEquals(-1, cell);
+                        } else {
+                            assertTrue(cell >= 0);
+                            assertFalse(view.isWall(cell % view.getWidth(), cell / view.getWidth()));
+                            assertTrue(distances[cell] >= 3 && distances[cell] <= 10);
+                        }
+                    }
+                }
+            }
+        }
+    }
+
+    @Test
+    public void sparseMaze_singleValidCell_isAlwaysFound() {
+        // Un seul couloir : seule la cellule à 3 pas est valide
+        MazeGrid grid = MazeGrid.fromArray(new int[][]{
+                {1, 1, 1, 1, 1, 1},
+                {1, 0, 0, 0, 0, 1},
+                {1, 1, 1, 1, 1, 1},
+        });
+        FreeCellIndex index = new FreeCellIndex(3, 10);
+        index.rebuild(grid);
+        index.setOrigin(1, 1);
+
+        assertEquals(4, index.getFreeCellCount());
+        assertEquals(1, index.getRingCount());
+        Random random = new Random(1);
+        for (int i = 0; i < 100; i++) {
+            assertEquals(1 * 6 + 4, index.pickRingCell(random));
+        }
+
+        // Trop près partout : aucun bonus possible
+        index.setOrigin(2, 1);
+        assertEquals(0, index.getRingCount());
+        assertEquals(-1, index.pickRingCell(random));
+    }
+
+    @Test
+    public void distances_followThePath_notTheStraightLine() {
+        // La cellule (1, 3) est à 2 cellules de (1, 1) à vol d'oiseau mais à 6 pas par le couloir
+        MazeGrid grid = MazeGrid.fromArray(new int[][]{
+                {1, 1, 1, 1, 1},
+                {1, 0, 0, 0, 1},
+                {1, 1, 1, 0, 1},
+                {1, 0, 0, 0, 1},
+                {1, 1, 1, 1, 1},
+        });
+        FreeCellIndex index = new FreeCellIndex(3, 10);
+        index.rebuild(grid);
+        index.setOrigin(1, 1);
+
+        assertEquals(6, index.getDistance(1, 3));
+        assertEquals(-1, index.getDistance(0, 0));
+        assertEquals(4, index.getRingCount());
+    }
+
+    @Test
+    public void picks_areUniformOverTheRing() {
+        MazeGrid grid = new MazeGrid(15, 3);
+        grid.fill(true);
+        for (int x = 1; x < 14; x++) {
+            grid.setWall(x, 1, false);
+        }
+        FreeCellIndex index = new FreeCellIndex(3, 10);
+        index.rebuild(grid);
+        index.setOrigin(1, 1);
+        assertEquals(8, index.getRingCount());
+
+        int[] counts = new int[15];
+        Random random = new Random(3);
+        int picks = 80_000;
+        for (int i = 0; i < picks; i++) {
+            counts[index.pickRingCell(random) % 15]++;
+        }
+        for (int x = 4; x <= 11; x++) {
+            assertEquals(picks / 8, counts[x], picks / 80);
+        }
+    }
+
+    @Test
+    public void rebuild_forgetsThePreviousOrigin() {
+        MazeGrid grid = new MazeGenerator(6, 6).getMaze();
+        FreeCellIndex index = new FreeCellIndex(3, 10);
+        index.rebuild(grid);
+        index.setOrigin(1, 1);
+        int before = index.getRingCount();
+
+        // Même origine après reconstruction : les distances doivent être recalculées
+        grid.fill(true);
+        index.rebuild(grid);
+        index.setOrigin(1, 1);
+        assertEquals(0, index.getFreeCellCount());
+        assertEquals(0, index.getRingCount());
+        assertTrue(before > 0);
+    }
+
+    /**
+     * Parcours en largeur complet, sans borne, pour comparaison
+     */
+    private static int[] fullSearch(MazeView maze, int startX, int startY) {
+        int width = maze.getWidth();
+        int[] distances = new int[width * maze.getHeight()];
+        Arrays.fill(distances, -1);
+        ArrayDeque<int[]> queue = new ArrayDeque<>();
+        distances[startY * width + startX] = 0;
+        queue.add(new int[]{startX, startY});
+        int[][] moves = {{1, 0}, {-1, 0}, {0, 1}, {0, -1}};
+        while (!queue.isEmpty()) {
+            int[] cell = queue.poll();
+            int d = distances[cell[1] * width + cell[0]];
+            for (int[] move : moves) {
+                int x = cell[0] + move[0];
+                int y = cell[1] + move[1];
+                if (!maze.contains(x, y) || maze.isWall(x, y) || distances[y * width + x] >= 0) continue;
+                distances[y * width + x] = d + 1;
+                queue.add(new int[]{x, y});
+            }
+        }
+        return distances;
+    }
+}
@@ -0,0 +1,120 @@
+package com.example.gameapp.utils;
+
+import org.junit.Test;
+
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.Assert.*;
+
+/**
+ * Tests de la file d'entrées producteur/consommateur sans verrou
+ */
+public class InputRingTest {
+
+    @Test
+    public void drain_deliversSamplesInOrder() {
+        InputRing ring = new InputRing(8);
+        for (int i = 0; i < 5; i++) {
+            assertTrue(ring.offer(i, -i, 100 + i));
+        }
+
+        final int[] next = {0};
+        int count = ring.drain((sequence, x, y, timestampNanos) -> {
+            assertEquals(next[0], sequence);
+            assertEquals(next[0], x, 0f);
+            assertEquals(-next[0], y, 0f);
+            assertEquals(100 + next[0], timestampNanos);
+            next[0]++;
+        });
+        assertEquals(5, count);
+        assertEquals(0, ring.drain((sequence, x, y, timestampNanos) -> fail()));
+    }
+
+    @Test
+    public void fullRing_dropsNewSamplesWithoutOverwriting() {
+        InputRing ring = new InputRing(4);
+        for (int i = 0; i < 4; i++) {
+            assertTrue(ring.offer(i, 0, i));
+        }
+        assertFalse(ring.offer(99, 0, 99));
+        assertEquals(1, ring.getDroppedCount());
+
+        final float[] sum = {0};
+        ring.drain((sequence, x, y, timestampNanos) -> sum[0] += x);
+        assertEquals(0 + 1 + 2 + 3, sum[0], 0f);
+
+        // De la place a été libérée
+        assertTrue(ring.offer(5, 0, 5));
+    }
+
+    @Test
+    public void discardPending_skipsQueuedSamples() {
+        InputRing ring = new InputRing(8);
+        ring.offer(1, 1, 1);
+        ring.offer(2, 2, 2);
+        ring.discardPending();
+        assertEquals(0, ring.drain((sequence, x, y, timestampNanos) -> fail()));
+    }
+
+    @Test
+    public void concurrentProducerAndConsumer_neverLoseOrCorruptSamples() throws Exception {
+        final int samples = 1_000_000;
+        final InputRing ring = new InputRing(64);
+        final AtomicReference<Throwable> failure = new AtomicReference<>();
+        final long[] rejected = {0};
+        final AtomicBoolean consumerFailed = new AtomicBoolean();
+
+        // Producteur : chaque échantillon encode son numéro dans ses trois champs.
+        // Il réessaie quand la file est pleine, pour que tous les échantillons finissent par passer.
+        Thread producer = new Thread(() -> {
+            for (int i = 0; i < samples; i++) {
+                while (!ring.offer(i, -i, 1000L + i)) {
+                    if (consumerFailed.get()) return;
+                    rejected[0]++;
+                    Thread.yield();
+                }
+            }
+        }, "input-producer");
+
+        final long[] received = {0};
+        final long[] lastValue = {-1};
+        InputRing.SampleHandler handler = (sequence, x, y, timestampNanos) -> {
+            long value = timestampNanos - 1000L;
+            // Chaque valeur arrive une fois, dans l'ordre
+            if (value != lastValue[0] + 1) throw new AssertionError("reçu " + value + " après " + lastValue[0]);
+            if (sequence != received[0]) throw new AssertionError("séquence " + sequence + " au lieu de " + received[0]);
+            // Un échantillon à moitié écrit aurait des champs incohérents
+            if (x != (float) value || y != (float) -value) throw new AssertionError("échantillon déchiré : " + value);
+            lastValue[0] = value;
+            received[0]++;
+        };
+
+        producer.setUncaughtExceptionHandler((t, e) -> failure.set(e));
+        long start = System.nanoTime();
+        producer.start();
+        try {
+            while (producer.isAlive()) {
+                if (ring.drain(handler) == 0) {
+                    // Laisser la main au producteur (machines à un seul cœur)
+                    Thread.yield();
+                }
+            }
+            producer.join();
+            ring.drain(handler);
+        } catch (Throwable t) {
+            failure.compareAndSet(null, t);
+            consumerFailed.set(true);
+            producer.join();
+        }
+        long elapsedMs = (System.nanoTime() - start) / 1_000_000;
+
+        if (failure.get() != null) {
+            throw new AssertionError("Échec du test concurrent", failure.get());
+        }
+        System.out.println("InputRing : " + received[0] + " reçus, " + rejected[0]
+                + " refus (file pleine) en " + elapsedMs + " ms");
+        assertEquals(samples, received[0]);
+        assertEquals(rejected[0], ring.getDroppedCount());
+    }
+}
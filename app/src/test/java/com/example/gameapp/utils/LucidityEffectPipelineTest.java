@@ -0,0 +1,95 @@
+package com.example.gameapp.utils;
+
+import org.junit.Test;
+
+import static org.junit.Assert.*;
+
+/**
+ * Tests de la chaîne d'effets de lucidité
+ */
+public class LucidityEffectPipelineTest {
+
+    @Test
+    public void effects_followTheirCurvesAtEveryLevel() {
+        LucidityEffectPipeline pipeline = new LucidityEffectPipeline();
+        int linear = pipeline.addEffect(l -> (1f - l) * 15f);
+        int toggle = pipeline.addEffect(l -> l < 0.5f ? 1f : 0f);
+
+        for (int bucket = 0; bucket < LucidityEffectPipeline.BUCKETS; bucket++) {
+            float lucidity = bucket / (float) (LucidityEffectPipeline.BUCKETS - 1);
+            pipeline.update(lucidity);
+            assertEquals((1f - lucidity) * 15f, pipeline.get(linear), 1e-4f);
+            assertEquals(lucidity < 0.5f, pipeline.isOn(toggle));
+        }
+
+        // Extrémités exactes : aucun effet à pleine lucidité
+        pipeline.update(1f);
+        assertEquals(0f, pipeline.get(linear), 0f);
+    }
+
+    @Test
+    public void effects_areReevaluatedOnlyWhenTheLevelChanges() {
+        LucidityEffectPipeline pipeline = new LucidityEffectPipeline();
+        pipeline.addEffect(l -> l);
+
+        // Décroissance réelle du jeu : 0,0004 par pas, pendant une partie complète
+        float lucidity = 1f;
+        int steps = 0;
+        int evaluations = 0;
+        while (lucidity > 0f) {
+            if (pipeline.update(lucidity)) evaluations++;
+            lucidity = Math.max(0f, lucidity - 0.0004f);
+            steps++;
+        }
+
+        assertTrue(evaluations <= LucidityEffectPipeline.BUCKETS);
+        // Un niveau dure environ 1 / (0,0004 x 255) ≈ 9,8 pas
+        assertTrue(steps > 9 * evaluations);
+    }
+
+    @Test
+    public void effectAddedLater_takesTheCurrentLevel() {
+        LucidityEffectPipeline pipeline = new LucidityEffectPipeline();
+        for (int i = 0; i < 5; i++) {
+            pipeline.addEffect(l -> 0f);
+        }
+        pipeline.update(0.25f);
+
+        int late = pipeline.addEffect(l -> l * 2f);
+        assertEquals(6, pipeline.getEffectCount());
+        assertEquals(0.5f, pipeline.get(late), 0.01f);
+    }
+
+    @Test
+    public void consumer_isCalledOnlyWhenItsValueChanges() {
+        LucidityEffectPipeline pipeline = new LucidityEffectPipeline();
+        float[] applied = new float[1];
+        int[] calls = new int[1];
+        pipeline.addEffect(l -> l < 0.5f ? 2f : 1f, value -> {
+            applied[0] = value;
+            calls[0]++;
+        });
+
+        // Première évaluation : valeur initiale appliquée
+        pipeline.update(1f);
+        assertEquals(1, calls[0]);
+        assertEquals(1f, applied[0], 0f);
+
+        // Toute une descente de lucidité : un seul changement de valeur
+        for (float lucidity = 1f; lucidity >= 0f; lucidity -= 0.0004f) {
+            pipeline.update(lucidity);
+        }
+        assertEquals(2, calls[0]);
+        assertEquals(2f, applied[0], 0f);
+    }
+
+    @Test
+    public void consumerAddedLater_receivesTheCurrentValue() {
+        LucidityEffectPipeline pipeline = new LucidityEffectPipeline();
+        pipeline.update(0.25f);
+
+        float[] applied = {-1f};
+        pipeline.addEffect(l -> l * 2f, value -> applied[0] = value);
+        assertEquals(0.5f, applied[0], 0.01f);
+    }
+}
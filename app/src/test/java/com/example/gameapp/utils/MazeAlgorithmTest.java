@@ -0,0 +1,142 @@
+package com.example.gameapp.utils;
+
+import org.junit.Test;
+
+import static org.junit.Assert.*;
+
+/**
+ * Tests et comparaison des algorithmes de génération
+ */
+public class MazeAlgorithmTest {
+
+    private static final int[] ALGORITHMS = {
+            MazeAlgorithm.BACKTRACKER, MazeAlgorithm.KRUSKAL, MazeAlgorithm.PRIM, MazeAlgorithm.WILSON,
+            MazeAlgorithm.ELLER, MazeAlgorithm.BINARY_TREE, MazeAlgorithm.SIDEWINDER,
+    };
+
+    private static final String[] NAMES = {
+            "Backtracker", "Kruskal", "Prim", "Wilson", "Eller", "Arbre binaire", "Sidewinder",
+    };
+
+    @Test
+    public void everyAlgorithm_givesPerfectMazes() {
+        int[][] sizes = {{1, 1}, {1, 9}, {9, 1}, {2, 2}, {10, 10}, {37, 5}, {64, 65}};
+        for (int algorithm : ALGORITHMS) {
+            for (int[] size : sizes) {
+                for (long seed = 0; seed < 5; seed++) {
+                    MazeGrid maze = new MazeGenerator(size[0], size[1], seed, MazeAlgorithm.forId(algorithm)).getMaze();
+                    MazeGeneratorTest.assertPerfectMaze(maze);
+                }
+            }
+        }
+    }
+
+    @Test
+    public void everyAlgorithm_isReproducibleFromItsSeed() {
+        for (int algorithm : ALGORITHMS) {
+            MazeAlgorithm instance = MazeAlgorithm.forId(algorithm);
+            assertEquals(algorithm, instance.getId());
+
+            MazeSeed seed = new MazeSeed(algorithm, 31, 17, 1234L);
+            MazeGrid grid = MazeSeed.parse(seed.toString()).generate();
+            assertEquals(grid, new MazeGenerator(31, 17, 1234L, instance).getMaze());
+        }
+    }
+
+    @Test
+    public void algorithms_giveDifferentMazes() {
+        MazeGrid[] grids = new MazeGrid[ALGORITHMS.length];
+        for (int i = 0; i < ALGORITHMS.length; i++) {
+            grids[i] = new MazeSeed(ALGORITHMS[i], 20, 20, 99L).generate();
+            for (int j = 0; j < i; j++) {
+                assertNotEquals(NAMES[i] + " / " + NAMES[j], grids[j], grids[i]);
+            }
+        }
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void unknownId_isRejected() {
+        MazeAlgorithm.forId(35);
+    }
+
+    /**
+     * Comparaison des algorithmes de 50x50 à 2000x2000 : débit, mémoire allouée par génération
+     * (grille comprise) et forme des couloirs. Les mesures sont affichées, seule la validité
+     * des labyrinthes est vérifiée. Lancée seulement avec -Dbenchmark=true.
+     */
+    @Test
+    public void benchmark_allAlgorithms() {
+        Benchmarks.assumeEnabled();
+        int[] sizes = {50, 200, 1000, 2000};
+        System.out.println(String.format("%-14s %9s %10s %12s %10s %10s %10s",
+                "Algorithme", "Taille", "Temps", "Cellules/ms", "Alloué", "Impasses", "Couloir"));
+        for (int i = 0; i < ALGORITHMS.length; i++) {
+            MazeAlgorithm algorithm = MazeAlgorithm.forId(ALGORITHMS[i]);
+
+            // Échauffement du JIT
+            for (int run = 0; run < 20; run++) {
+                new MazeGenerator(50, 50, run, algorithm).getMaze();
+            }
+
+            for (int size : sizes) {
+                long cells = (long) size * size;
+                int runs = (int) Math.max(1, 2_000_000 / cells);
+                long bestNanos = Long.MAX_VALUE;
+                MazeGrid maze = null;
+                for (int run = 0; run < runs; run++) {
+                    long start = System.nanoTime();
+                    maze = new MazeGenerator(size, size, run, algorithm).getMaze();
+                    bestNanos = Math.min(bestNanos, System.nanoTime() - start);
+                }
+                long allocated = Benchmarks.allocatedBytes(() -> new MazeGenerator(size, size, 0, algorithm).getMaze());
+
+                CorridorStats stats = new CorridorStats(maze);
+                System.out.println(String.format("%-14s %4dx%-4d %8.2fms %12.0f %8dKo %9.1f%% %10.2f",
+                        NAMES[i], size, size, bestNanos / 1e6, cells / (bestNanos / 1e6),
+                        allocated / 1024, stats.deadEndPercent(), stats.averageCorridorLength()));
+                assertEquals(cells, stats.cells);
+            }
+        }
+    }
+
+    /**
+     * Forme des couloirs d'un labyrinthe parfait, calculée sur le graphe des cellules logiques
+     */
+    private static final class CorridorStats {
+        final long cells;
+        long deadEnds;
+        // Cellules qui ne sont pas au milieu d'un couloir (impasses et carrefours)
+        long nodes;
+
+        CorridorStats(MazeGrid maze) {
+            int cellsX = (maze.getWidth() - 1) / 2;
+            int cellsY = (maze.getHeight() - 1) / 2;
+            cells = (long) cellsX * cellsY;
+            for (int cy = 0; cy < cellsY; cy++) {
+                for (int cx = 0; cx < cellsX; cx++) {
+                    int gx = 2 * cx + 1;
+                    int gy = 2 * cy + 1;
+                    int degree = 0;
+                    if (cx > 0 && !maze.isWall(gx - 1, gy)) degree++;
+                    if (cx + 1 < cellsX && !maze.isWall(gx + 1, gy)) degree++;
+                    if (cy > 0 && !maze.isWall(gx, gy - 1)) degree++;
+                    if (cy + 1 < cellsY && !maze.isWall(gx, gy + 1)) degree++;
+                    if (degree == 1) deadEnds++;
+                    if (degree != 2) nodes++;
+                }
+            }
+        }
+
+        double deadEndPercent() {
+            return 100.0 * deadEnds / cells;
+        }
+
+        /**
+         * Longueur moyenne (en passages) d'un couloir entre deux impasses ou carrefours :
+         * l'arbre contracté a nodes - 1 couloirs pour cells - 1 passages
+         */
+        double averageCorridorLength() {
+            return nodes > 1 ? (double) (cells - 1) / (nodes - 1) : cells - 1;
+        }
+    }
+}
@@ -0,0 +1,121 @@
+package com.example.gameapp.utils;
+
+import org.junit.Test;
+
+import static org.junit.Assert.*;
+
+/**
+ * Tests du générateur de labyrinthe (exécutés sur la JVM).
+ */
+public class MazeGeneratorTest {
+
+    @Test
+    public void smallMaze_isPerfect() {
+        assertPerfectMaze(new MazeGenerator(10, 10).getMaze());
+    }
+
+    @Test
+    public void rectangularMaze_isPerfect() {
+        assertPerfectMaze(new MazeGenerator(37, 5).getMaze());
+    }
+
+    @Test
+    public void hugeMaze_isPerfectAndFitsInSmallStack() throws Exception {
+        final MazeGrid[] result = new MazeGrid[1];
+        final Throwable[] failure = new Throwable[1];
+
+        // Pile volontairement petite : l'ancienne version récursive y déborderait
+        Thread worker = new Thread(null, () -> {
+            try {
+                long start = System.nanoTime();
+                result[0] = new MazeGenerator(2000, 2000).getMaze();
+                long elapsedMs = (System.nanoTime() - start) / 1_000_000;
+                System.out.println("MazeGenerator 2000x2000 : " + elapsedMs + " ms");
+            } catch (Throwable t) {
+                failure[0] = t;
+            }
+        }, "maze-generator-test", 256 * 1024);
+        worker.start();
+        worker.join();
+
+        if (failure[0] != null) {
+            throw new AssertionError("Génération échouée", failure[0]);
+        }
+        assertPerfectMaze(result[0]);
+    }
+
+    /**
+     * Vérifie que le labyrinthe est parfait : toutes les cellules sont atteignables
+     * depuis (1, 1) et il existe exactement un chemin entre deux cellules
+     * (nombre de passages = nombre de cellules - 1).
+     */
+    static void assertPerfectMaze(MazeGrid maze) {
+        int height = maze.getHeight();
+        int width = maze.getWidth();
+        int cellsX = (width - 1) / 2;
+        int cellsY = (height - 1) / 2;
+
+        // Les cellules logiques sont toutes creusées, les coins de la grille sont des murs
+        for (int y = 1; y < height; y += 2) {
+            for (int x = 1; x < width; x += 2) {
+                assertFalse(maze.isWall(x, y));
+                if (y + 1 < height && x + 1 < width) {
+                    assertTrue(maze.isWall(x + 1, y + 1));
+                }
+            }
+        }
+
+        // Compter les passages entre cellules voisines
+        long passages = 0;
+        for (int y = 1; y < height - 1; y++) {
+            for (int x = 1; x < width - 1; x++) {
+                if (((x ^ y) & 1) == 1 && !maze.isWall(x, y)) {
+                    passages++;
+                }
+            }
+        }
+        long cells = (long) cellsX * cellsY;
+        assertEquals(cells - 1, passages);
+
+        // Parcours en largeur sur les cellules logiques
+        boolean[] visited = new boolean[cellsX * cellsY];
+        int[] queue = new int[cellsX * cellsY];
+        int head = 0, tail = 0;
+        queue[tail++] = 0;
+        visited[0] = true;
+        while (head < tail) {
+            int cell = queue[head++];
+            int cx = cell % cellsX;
+            int cy = cell / cellsX;
+            int gx = cx * 2 + 1;
+            int gy = cy * 2 + 1;
+            if (cx + 1 < cellsX && !maze.isWall(gx + 1, gy) && !visited[cell + 1]) {
+                visited[cell + 1] = true;
+                queue[tail++] = cell + 1;
+            }
+            if (cx > 0 && !maze.isWall(gx - 1, gy) && !visited[cell - 1]) {
+                visited[cell - 1] = true;
+                queue[tail++] = cell - 1;
+            }
+            if (cy + 1 < cellsY && !maze.isWall(gx, gy + 1) && !visited[cell + cellsX]) {
+                visited[cell + cellsX] = true;
+                queue[tail++] = cell + cellsX;
+            }
+            if (cy > 0 && !maze.isWall(gx, gy - 1) && !visited[cell - cellsX]) {
+                visited[cell - cellsX] = true;
+                queue[tail++] = cell - cellsX;
+            }
+        }
+        assertEquals(cells, tail);
+
+        // Une seule ouverture sur le bord : la sortie en bas
+        int openings = 0;
+        for (int x = 0; x < width; x++) {
+            openings += (!maze.isWall(x, 0) ? 1 : 0) + (!maze.isWall(x, height - 1) ? 1 : 0);
+        }
+        for (int y = 0; y < height; y++) {
+            openings += (!maze.isWall(0, y) ? 1 : 0) + (!maze.isWall(width - 1, y) ? 1 : 0);
+        }
+        assertEquals(1, openings);
+    }
+}
@@ -0,0 +1,65 @@
+package com.example.gameapp.utils;
+
+import org.junit.Test;
+
+import static org.junit.Assert.*;
+
+/**
+ * Tests de la grille compacte (un bit par cellule).
+ */
+public class MazeGridTest {
+
+    @Test
+    public void setAndReadCells_acrossWordBoundaries() {
+        MazeGrid grid = new MazeGrid(130, 3);
+        grid.setWall(0, 0, true);
+        grid.setWall(63, 1, true);
+        grid.setWall(64, 1, true);
+        grid.setWall(129, 2, true);
+
+        assertTrue(grid.isWall(0, 0));
+        assertTrue(grid.isWall(63, 1));
+        assertTrue(grid.isWall(64, 1));
+        assertTrue(grid.isWall(129, 2));
+        assertFalse(grid.isWall(1, 0));
+        assertFalse(grid.isWall(129, 1));
+        assertEquals(4, grid.countWalls());
+
+        grid.setWall(64, 1, false);
+        assertFalse(grid.isWall(64, 1));
+        assertEquals(1L, grid.getRowWord(1, 0) >>> 63);
+        assertEquals(0L, grid.getRowWord(1, 1));
+    }
+
+    @Test
+    public void fillWalls_doesNotSetBitsPastTheWidth() {
+        MazeGrid grid = new MazeGrid(70, 2);
+        grid.fill(true);
+
+        assertEquals(140, grid.countWalls());
+        assertEquals((1L << 6) - 1, grid.getRowWord(0, 1));
+
+        grid.setRowWord(1, 1, -1L);
+        assertEquals(140, grid.countWalls());
+    }
+
+    @Test
+    public void fromArray_copyAndEquals() {
+        MazeGrid grid = MazeGrid.fromArray(new int[][] {
+                {1, 1, 1},
+                {1, 0, 1},
+                {1, 0, 1}
+        });
+
+        assertEquals(3, grid.getWidth());
+        assertEquals(3, grid.getHeight());
+        assertFalse(grid.isWall(1, 1));
+        assertTrue(grid.isWall(2, 2));
+
+        MazeGrid copy = grid.copy();
+        assertEquals(grid, copy);
+        copy.setWall(1, 2, true);
+        assertNotSame(grid, copy);
+        assertFalse(grid.equals(copy));
+    }
+}
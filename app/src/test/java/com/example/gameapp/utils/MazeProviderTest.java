@@ -0,0 +1,88 @@
+package com.example.gameapp.utils;
+
+import org.junit.Test;
+
+import static org.junit.Assert.*;
+
+/**
+ * Tests du fournisseur de labyrinthes préparés en arrière-plan
+ */
+public class MazeProviderTest {
+
+    @Test
+    public void background_fillsUpToCapacity() throws InterruptedException {
+        MazeProvider provider = new MazeProvider(10, 10, 3);
+        provider.start();
+        try {
+            waitForReady(provider, 3);
+            // La file est bornée : le thread attend au lieu de générer davantage
+            Thread.sleep(50);
+            assertEquals(3, provider.getReadyCount());
+
+            PreparedMaze maze = provider.take();
+            assertNotNull(maze);
+            assertEquals(0, provider.getSynchronousCount());
+
+            // Le labyrinthe retiré est remplacé
+            waitForReady(provider, 3);
+        } finally {
+            provider.stop();
+        }
+    }
+
+    @Test
+    public void take_whenNothingIsReady_generatesInPlace() {
+        MazeProvider provider = new MazeProvider(8, 6, 1);
+        PreparedMaze first = provider.take();
+
+        assertEquals(1, provider.getSynchronousCount());
+        assertEquals(17, first.getGrid().getWidth());
+        assertEquals(13, first.getGrid().getHeight());
+    }
+
+    @Test
+    public void takenMazes_areDistinctAndReady() throws InterruptedException {
+        MazeProvider provider = new MazeProvider(10, 10, 2);
+        provider.start();
+        try {
+            waitForReady(provider, 2);
+            long start = System.nanoTime();
+            PreparedMaze a = provider.take();
+            PreparedMaze b = provider.take();
+            long elapsedMicros = (System.nanoTime() - start) / 1000;
+            System.out.println("Deux labyrinthes prêts retirés en " + elapsedMicros + " µs");
+
+            assertNotSame(a, b);
+            assertNotSame(a.getView(), b.getView());
+            for (PreparedMaze maze : new PreparedMaze[]{a, b}) {
+                assertSame(maze.getGrid(), maze.getView().getBase());
+                assertEquals(0, maze.getView().getRotation());
+                assertFalse(maze.getGrid().isWall(maze.getExitX(), maze.getExitY()));
+                assertEquals(0f, maze.getDistanceField().distanceToWall(0, 0), 0f);
+                assertSame(maze.getGrid(), maze.getWallRectangles().getMaze());
+            }
+        } finally {
+            provider.stop();
+        }
+    }
+
+    @Test
+    public void exit_fallsBackToNearestPassage() {
+        MazeGrid grid = MazeGrid.fromArray(new int[][]{
+                {1, 1, 1, 1},
+                {1, 0, 0, 1},
+                {1, 1, 1, 1},
+        });
+        PreparedMaze maze = new PreparedMaze(grid);
+        assertEquals(2, maze.getExitX());
+        assertEquals(1, maze.getExitY());
+    }
+
+    private static void waitForReady(MazeProvider provider, int count) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 10_000;
+        while (provider.getReadyCount() < count) {
+            assertTrue("Labyrinthes non préparés à temps", System.currentTimeMillis() < deadline);
+            Thread.sleep(5);
+        }
+    }
+}
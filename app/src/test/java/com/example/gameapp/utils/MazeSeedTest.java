@@ -0,0 +1,72 @@
+package com.example.gameapp.utils;
+
+import org.junit.Test;
+
+import static org.junit.Assert.*;
+
+/**
+ * Tests de la génération reproductible et du format des graines
+ */
+public class MazeSeedTest {
+
+    // Empreinte (MazeGrid.hashCode) de la grille de la graine "0A-A-2KQ4W1Z9M0B7"
+    private static final int KNOWN_HASH = -1945486268;
+
+    @Test
+    public void sameSeed_givesIdenticalGrids() {
+        MazeSeed seed = new MazeSeed(MazeAlgorithm.BACKTRACKER, 23, 17, 42L);
+        MazeGrid first = seed.generate();
+        MazeGrid second = MazeSeed.parse(seed.toString()).generate();
+        assertEquals(first, second);
+        assertEquals(first, new MazeGenerator(23, 17, 42L).getMaze());
+
+        assertNotEquals(first, new MazeSeed(MazeAlgorithm.BACKTRACKER, 23, 17, 43L).generate());
+    }
+
+    @Test
+    public void knownSeed_givesKnownGrid() {
+        // Empreinte figée : toute modification de la génération qui change les grilles
+        // existantes (graines partagées, références de performance) fait échouer ce test
+        MazeGrid grid = MazeSeed.parse("0A-A-2KQ4W1Z9M0B7").generate();
+        assertEquals(21, grid.getWidth());
+        assertEquals(21, grid.getHeight());
+        assertEquals(KNOWN_HASH, grid.hashCode());
+    }
+
+    @Test
+    public void text_roundTrips() {
+        long[] seeds = {0L, 1L, -1L, Long.MIN_VALUE, Long.MAX_VALUE, 0x2545F4914F6CDD1DL};
+        for (long value : seeds) {
+            MazeSeed seed = new MazeSeed(MazeAlgorithm.BACKTRACKER, 1000, 3, value);
+            String text = seed.toString();
+            assertEquals(seed, MazeSeed.parse(text));
+            assertEquals(seed, MazeSeed.parse(text.toLowerCase()));
+            // Graine partageable : au plus 1 + 2 + 1 + 1 + 1 + 13 caractères ici
+            assertTrue(text, text.length() <= 19);
+        }
+    }
+
+    @Test
+    public void generatorSeed_isReported() {
+        MazeGenerator generator = new MazeGenerator(9, 9);
+        MazeSeed seed = new MazeSeed(MazeAlgorithm.BACKTRACKER, 9, 9, generator.getSeed());
+        assertEquals(generator.getMaze(), seed.generate());
+    }
+
+    @Test
+    public void malformedText_isRejected() {
+        String[] invalid = {"", "0", "0A", "0A-A", "0A-A-", "-A-A-1", "0A-A-1-2", "0A-A-!", "0-A-1", "Z1-1-1",
+                // Dimensions démesurées (mémoire épuisée, puis dépassement de 2 x largeur + 1)
+                "0ZZZZZ-ZZZZZ-1", "0A-ZZZZZ-1", "0ZIK0ZJ-ZIK0ZJ-1", "01KX-A-1"};
+        for (String text : invalid) {
+            try {
+                MazeSeed.parse(text).generate();
+                fail("Accepté à tort : " + text);
+            } catch (IllegalArgumentException expected) {
+                // Attendu
+            }
+        }
+        // La taille maximale reste acceptée
+        assertEquals(MazeSeed.MAX_SIZE, MazeSeed.parse("01KW-1-1").getWidth());
+    }
+}
@@ -0,0 +1,64 @@
+package com.example.gameapp.utils;
+
+import org.junit.Test;
+
+import static org.junit.Assert.*;
+
+/**
+ * Tests de la vue pivotée : elle doit lire la grille comme une copie pivotée
+ */
+public class RotatedMazeViewTest {
+
+    // 4 colonnes x 2 lignes, asymétrique
+    private static final int[][] CELLS = {
+            {1, 0, 0, 1},
+            {1, 1, 0, 0}
+    };
+
+    @Test
+    public void quarterTurn_swapsDimensionsAndMatchesClockwiseRotation() {
+        RotatedMazeView view = new RotatedMazeView(MazeGrid.fromArray(CELLS));
+        view.setRotation(1);
+
+        assertEquals(2, view.getWidth());
+        assertEquals(4, view.getHeight());
+        assertViewEquals(new int[][] {
+                {1, 1},
+                {1, 0},
+                {0, 0},
+                {0, 1}
+        }, view);
+    }
+
+    @Test
+    public void halfAndThreeQuarterTurns_matchRotatedCopies() {
+        RotatedMazeView view = new RotatedMazeView(MazeGrid.fromArray(CELLS));
+
+        view.setRotation(2);
+        assertViewEquals(new int[][] {
+                {0, 0, 1, 1},
+                {1, 0, 0, 1}
+        }, view);
+
+        view.setRotation(3);
+        assertViewEquals(new int[][] {
+                {1, 0},
+                {0, 0},
+                {0, 1},
+                {1, 1}
+        }, view);
+
+        view.setRotation(4);
+        assertViewEquals(CELLS, view);
+    }
+
+    private static void assertViewEquals(int[][] expected, MazeView view) {
+        assertEquals(expected.length, view.getHeight());
+        assertEquals(expected[0].length, view.getWidth());
+        for (int y = 0; y < expected.length; y++) {
+            for (int x = 0; x < expected[0].length; x++) {
+                assertEquals("(" + x + ", " + y + ")", expected[y][x] == 1, view.isWall(x, y));
+            }
+        }
+    }
+}
@@ -0,0 +1,98 @@
+package com.example.gameapp.utils;
+
+import org.junit.Test;
+
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.Assert.*;
+
+/**
+ * Tests de la génération parallèle par tuiles
+ */
+public class TiledMazeGeneratorTest {
+
+    @Test
+    public void tiledMaze_isPerfect() {
+        // Tailles multiples ou non de la taille de tuile, une seule tuile ou plusieurs
+        int[][] sizes = {{1, 1}, {32, 32}, {33, 7}, {64, 64}, {100, 45}, {7, 130}, {97, 97}};
+        ForkJoinPool pool = new ForkJoinPool(2);
+        try {
+            for (int algorithm : new int[]{MazeAlgorithm.BACKTRACKER, MazeAlgorithm.ELLER, MazeAlgorithm.WILSON}) {
+                TiledMazeGenerator generator = new TiledMazeGenerator(MazeAlgorithm.forId(algorithm), 32, pool);
+                for (int[] size : sizes) {
+                    for (long seed = 0; seed < 3; seed++) {
+                        MazeGrid maze = generator.generate(size[0], size[1], seed);
+                        assertEquals(2 * size[0] + 1, maze.getWidth());
+                        assertEquals(2 * size[1] + 1, maze.getHeight());
+                        MazeGeneratorTest.assertPerfectMaze(maze);
+                    }
+                }
+            }
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    @Test
+    public void sameSeed_givesSameMazeWhateverTheThreadCount() {
+        MazeGrid reference = null;
+        for (int threads = 1; threads <= 4; threads++) {
+            ForkJoinPool pool = new ForkJoinPool(threads);
+            try {
+                MazeGrid maze = new TiledMazeGenerator(new BacktrackerAlgorithm(), 64, pool).generate(300, 200, 42L);
+                if (reference == null) {
+                    reference = maze;
+                } else {
+                    assertEquals("Threads : " + threads, reference, maze);
+                }
+            } finally {
+                pool.shutdown();
+            }
+        }
+
+        TiledMazeGenerator generator = new TiledMazeGenerator(new BacktrackerAlgorithm(), 64, ForkJoinPool.commonPool());
+        assertNotEquals(reference, generator.generate(300, 200, 43L));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void unalignedTileSize_isRejected() {
+        new TiledMazeGenerator(new BacktrackerAlgorithm(), 48, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Mesure indicative du passage à l'échelle sur 4000 x 4000 cellules, de 1 thread au nombre de cœurs.
+     * Le gain dépend de la machine : sur un seul cœur, seule la ligne à 1 thread est significative.
+     * Lancée seulement avec -Dbenchmark=true.
+     */
+    @Test
+    public void benchmark_scalingWithCores() {
+        Benchmarks.assumeEnabled();
+        int size = 4000;
+        int cores = Runtime.getRuntime().availableProcessors();
+        System.out.println("Labyrinthe " + size + " x " + size + ", tuiles de 256 cellules, " + cores + " cœur(s)");
+        System.out.println(String.format("%-8s %10s %10s", "Threads", "ms", "Gain"));
+
+        double reference = 0;
+        for (int threads = 1; threads <= cores; threads++) {
+            ForkJoinPool pool = new ForkJoinPool(threads);
+            try {
+                TiledMazeGenerator generator = new TiledMazeGenerator(new BacktrackerAlgorithm(), 256, pool);
+                // Échauffement pour que le JIT compile la génération
+                generator.generate(512, 512, 1L);
+
+                long best = Long.MAX_VALUE;
+                for (int run = 0; run < 2; run++) {
+                    long start = System.nanoTime();
+                    MazeGrid maze = generator.generate(size, size, 7L);
+                    best = Math.min(best, System.nanoTime() - start);
+                    assertEquals(2 * size + 1, maze.getWidth());
+                }
+                double ms = best / 1e6;
+                if (threads == 1) reference = ms;
+                System.out.println(String.format("%-8d %10.1f %9.2fx", threads, ms, reference / ms));
+            } finally {
+                pool.shutdown();
+            }
+        }
+    }
+}
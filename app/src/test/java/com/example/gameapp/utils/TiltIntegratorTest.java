@@ -0,0 +1,92 @@
+package com.example.gameapp.utils;
+
+import org.junit.Test;
+
+import static org.junit.Assert.*;
+
+/**
+ * Tests de l'intégration de l'inclinaison sur le temps réel des mesures
+ */
+public class TiltIntegratorTest {
+
+    private static final long STEP = 1_000_000_000L / 60;
+    private static final long MAX_LAG = 250_000_000L;
+    private static final long START = 5_000_000_000L;
+
+    @Test
+    public void constantTilt_givesSameStepTiltAtAnyRate() {
+        TiltIntegrator integrator = new TiltIntegrator(STEP, MAX_LAG);
+        InputRing ring = new InputRing(64);
+
+        // Une mesure de 2 par pas : chaque pas reçoit 2
+        ring.offer(2f, -1f, START - STEP);
+        integrator.advance(ring, START);
+        for (int i = 1; i <= 10; i++) {
+            ring.offer(2f, -1f, START + i * STEP - STEP / 2);
+            integrator.advance(ring, START + i * STEP);
+            assertEquals(2f, integrator.getStepTiltX(), 1e-4f);
+            assertEquals(-1f, integrator.getStepTiltY(), 1e-4f);
+        }
+    }
+
+    @Test
+    public void totalTilt_doesNotDependOnSensorRate() {
+        // Même signal (1 puis 3 à partir de 0,5 s) échantillonné à 50 Hz et à 200 Hz
+        double slow = simulate(20_000_000L, 0);
+        double fast = simulate(5_000_000L, 0);
+
+        // Intégrale attendue sur 1 s : 1 x 0,5 s + 3 x 0,5 s, soit 2 s = 120 pas
+        assertEquals(120.0, slow, 0.5);
+        assertEquals(slow, fast, 0.5);
+    }
+
+    @Test
+    public void batchedSamples_giveSameTotalAsImmediateDelivery() {
+        double immediate = simulate(20_000_000L, 0);
+        // Mesures livrées par lots toutes les 40 ms, donc en retard sur la simulation
+        double batched = simulate(20_000_000L, 40_000_000L);
+
+        assertEquals(immediate, batched, 0.05);
+    }
+
+    /**
+     * Simule une seconde de jeu et renvoie la somme des inclinaisons X par pas
+     * @param samplePeriod Période des mesures
+     * @param batchPeriod Période de livraison des lots (0 = livraison immédiate)
+     */
+    private static double simulate(long samplePeriod, long batchPeriod) {
+        TiltIntegrator integrator = new TiltIntegrator(STEP, MAX_LAG);
+        InputRing ring = new InputRing(256);
+
+        long nextSample = START;
+        long nextBatch = START + batchPeriod;
+        double total = 0;
+        // Premier pas : cale l'horloge (intervalle [START - STEP, START] sans mesure)
+        ring.offer(signal(START - STEP), 0f, START - STEP);
+        integrator.advance(ring, START);
+
+        // Une seconde de pas, plus une marge pour recevoir le dernier lot
+        int steps = 60 + 6;
+        for (int i = 1; i <= steps; i++) {
+            long now = START + i * STEP;
+            // Le capteur mesure en continu ; les mesures sont livrées tout de suite ou par lots
+            long deliverUntil = now;
+            if (batchPeriod > 0) {
+                while (nextBatch <= now) nextBatch += batchPeriod;
+                deliverUntil = nextBatch - batchPeriod;
+            }
+            while (nextSample <= deliverUntil) {
+                assertTrue(ring.offer(signal(nextSample), 0f, nextSample));
+                nextSample += samplePeriod;
+            }
+            integrator.advance(ring, now);
+            total += integrator.getStepTiltX();
+        }
+        // Retirer la marge (signal constant égal à 3 après 1 s)
+        return total - 6 * 3.0;
+    }
+
+    private static float signal(long time) {
+        return time - START < 500_000_000L ? 1f : 3f;
+    }
+}
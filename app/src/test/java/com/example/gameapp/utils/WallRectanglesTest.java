@@ -0,0 +1,96 @@
+package com.example.gameapp.utils;
+
+import org.junit.Test;
+
+import java.util.Random;
+
+import static org.junit.Assert.*;
+
+/**
+ * Tests de la fusion des murs en rectangles et de son index
+ */
+public class WallRectanglesTest {
+
+    @Test
+    public void rectangles_coverEveryWallExactlyOnce() {
+        MazeGrid maze = new MazeGenerator(20, 12, 3L).getMaze();
+        WallRectangles walls = new WallRectangles(maze);
+
+        int[] coverage = new int[maze.getWidth() * maze.getHeight()];
+        for (int i = 0; i < walls.getCount(); i++) {
+            for (int y = walls.getTop(i); y < walls.getBottom(i); y++) {
+                for (int x = walls.getLeft(i); x < walls.getRight(i); x++) {
+                    coverage[y * maze.getWidth() + x]++;
+                }
+            }
+        }
+        for (int y = 0; y < maze.getHeight(); y++) {
+            for (int x = 0; x < maze.getWidth(); x++) {
+                assertEquals("(" + x + ", " + y + ")", maze.isWall(x, y) ? 1 : 0, coverage[y * maze.getWidth() + x]);
+            }
+        }
+        assertEquals(maze.countWalls(), walls.getWallCellCount());
+    }
+
+    @Test
+    public void fullGrid_mergesIntoOneRectangle() {
+        MazeGrid maze = new MazeGrid(70, 9);
+        maze.fill(true);
+        WallRectangles walls = new WallRectangles(maze);
+
+        assertEquals(1, walls.getCount());
+        assertEquals(70, walls.getRight(0));
+        assertEquals(9, walls.getBottom(0));
+    }
+
+    @Test
+    public void query_matchesBruteForce() {
+        MazeGrid maze = new MazeGenerator(30, 30, 7L).getMaze();
+        WallRectangles walls = new WallRectangles(maze);
+        int[] found = new int[walls.getCount()];
+        Random random = new Random(7);
+
+        for (int i = 0; i < 500; i++) {
+            int minX = random.nextInt(maze.getWidth() + 4) - 2;
+            int minY = random.nextInt(maze.getHeight() + 4) - 2;
+            int maxX = minX + random.nextInt(12);
+            int maxY = minY + random.nextInt(12);
+
+            boolean[] expected = new boolean[walls.getCount()];
+            int expectedCount = 0;
+            for (int r = 0; r < walls.getCount(); r++) {
+                if (walls.getLeft(r) <= maxX && walls.getRight(r) > minX
+                        && walls.getTop(r) <= maxY && walls.getBottom(r) > minY) {
+                    expected[r] = true;
+                    expectedCount++;
+                }
+            }
+
+            int count = walls.query(minX, minY, maxX, maxY, found);
+            assertEquals(expectedCount, count);
+            for (int k = 0; k < count; k++) {
+                assertTrue(expected[found[k]]);
+            }
+        }
+    }
+
+    /**
+     * Nombre de primitives (cellules de mur vs rectangles) sur des labyrinthes de taille croissante.
+     * Lancée seulement avec -Dbenchmark=true.
+     */
+    @Test
+    public void benchmark_cellCountVersusRectangleCount() {
+        Benchmarks.assumeEnabled();
+        for (int size = 25; size <= 800; size *= 2) {
+            MazeGrid maze = new MazeGenerator(size, size, 1L).getMaze();
+            long start = System.nanoTime();
+            WallRectangles walls = new WallRectangles(maze);
+            long elapsedUs = (System.nanoTime() - start) / 1000;
+
+            System.out.println(String.format("%4dx%-4d : %8d cellules de mur -> %7d rectangles (x%.2f) en %d µs",
+                    maze.getWidth(), maze.getHeight(), walls.getWallCellCount(), walls.getCount(),
+                    walls.getWallCellCount() / (double) walls.getCount(), elapsedUs));
+            assertTrue(walls.getCount() < walls.getWallCellCount());
+        }
+    }
+}